@@ -0,0 +1,67 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@SuppressWarnings("designforextension")
+public class NodeSelectorBenchmark {
+
+    @Param({"ROUND_ROBIN", "PIN_UNTIL_ERROR", "LEAST_OUTSTANDING_REQUESTS", "POWER_OF_TWO_CHOICES"})
+    private NodeSelectionStrategy strategy;
+
+    @Param({"3", "16"})
+    private int nodes;
+
+    private NodeSelector selector;
+
+    @Setup
+    public void before() {
+        ServiceUri[] uris = new ServiceUri[nodes];
+        for (int i = 0; i < nodes; i++) {
+            uris[i] = ServiceUri.fromString("https://node" + i + ":8443/api");
+        }
+        selector = NodeSelector.of(strategy, List.of(uris));
+    }
+
+    @Benchmark
+    public int selectAndComplete() {
+        int node = selector.select();
+        selector.complete(node, true);
+        return node;
+    }
+}
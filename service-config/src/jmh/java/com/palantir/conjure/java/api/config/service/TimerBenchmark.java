@@ -0,0 +1,87 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Schedules and cancels a timeout, the common case for request timeouts, while a large number of other timeouts are
+ * outstanding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+@State(Scope.Benchmark)
+@SuppressWarnings("designforextension")
+public class TimerBenchmark {
+
+    private static final Runnable NOOP = () -> {};
+
+    @Param("1000000")
+    private int outstanding;
+
+    private HashedWheelTimer wheel;
+    private ScheduledThreadPoolExecutor executor;
+
+    @Setup
+    public void before() {
+        wheel = HashedWheelTimer.create();
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        for (int i = 0; i < outstanding; i++) {
+            // spread over an hour so that none fire during the run
+            long delayMillis = TimeUnit.HOURS.toMillis(1) + i % 60_000;
+            wheel.schedule(NOOP, delayMillis, TimeUnit.MILLISECONDS);
+            executor.schedule(NOOP, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown
+    public void after() {
+        wheel.close();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean hashedWheelTimer() {
+        return wheel.schedule(NOOP, 100, TimeUnit.MILLISECONDS).cancel();
+    }
+
+    @Benchmark
+    public boolean scheduledThreadPoolExecutor() {
+        ScheduledFuture<?> future = executor.schedule(NOOP, 100, TimeUnit.MILLISECONDS);
+        return future.cancel(false);
+    }
+}
@@ -37,16 +37,47 @@ import org.openjdk.jmh.annotations.Warmup;
 @SuppressWarnings("designforextension")
 public class UserAgentsBenchmark {
 
-    @Param({"service", "valid-service-name-123"})
-    private String name;
+    @State(Scope.Benchmark)
+    public static class Names {
+        @Param({"service", "valid-service-name-123"})
+        private String name;
+    }
+
+    @State(Scope.Benchmark)
+    public static class UserAgentStrings {
+        @Param({
+            "service/1.2.3",
+            "service/1.2.3 (nodeId:node-1.example.com) conjure-java-runtime/7.50.0 dialogue/3.100.0",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0"
+        })
+        private String userAgent;
+
+        private final UserAgentCache cache = UserAgentCache.of(1000);
+    }
+
+    @Benchmark
+    public boolean parser(Names state) {
+        return UserAgents.isValidName(state.name);
+    }
+
+    @Benchmark
+    public boolean regex(Names state) {
+        return UserAgents.NAME_REGEX.matcher(state.name).matches();
+    }
+
+    @Benchmark
+    public UserAgent parse(UserAgentStrings state) {
+        return UserAgents.parse(state.userAgent);
+    }
 
     @Benchmark
-    public boolean parser() {
-        return UserAgents.isValidName(name);
+    public UserAgent parseCached(UserAgentStrings state) {
+        // a fresh string per request, like an inbound header, so that its hash code is not cached
+        return state.cache.parse(new String(state.userAgent));
     }
 
     @Benchmark
-    public boolean regex() {
-        return UserAgents.NAME_REGEX.matcher(name).matches();
+    public UserAgent parseWithRegex(UserAgentStrings state) {
+        return UserAgents.parseWithRegex(state.userAgent, false);
     }
 }
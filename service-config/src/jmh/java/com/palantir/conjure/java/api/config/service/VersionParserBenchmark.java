@@ -37,7 +37,7 @@ import org.openjdk.jmh.annotations.Warmup;
 @SuppressWarnings("designforextension")
 public class VersionParserBenchmark {
 
-    @Param({"123.456.789", "12.34.56.78-rc9-0-gabc"})
+    @Param({"123.456.789", "1.2.3-rc4", "1.2.3-4-gabcdef0", "12.34.56.78-rc9-0-gabc"})
     private String version;
 
     @Benchmark
@@ -45,6 +45,11 @@ public class VersionParserBenchmark {
         return VersionParser.countNumericDotGroups(version) >= 2;
     }
 
+    @Benchmark
+    public boolean grammar() {
+        return VersionParser.isValidVersion(version);
+    }
+
     @Benchmark
     public boolean regex() {
         return UserAgents.versionMatchesRegex(version);
@@ -0,0 +1,279 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.conjure.java.api.errors.QosException;
+import com.palantir.conjure.java.api.errors.QosReason;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.io.Closeable;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Isolates the calls to a service as configured by a {@link BulkheadConfiguration}, so that a slow service cannot
+ * exhaust resources shared with calls to other services.
+ *
+ * <p>The bulkhead hands out up to {@link BulkheadConfiguration#maxConcurrentCalls()} permits from a lock-free counter.
+ * Calls {@link #submit(Callable) submitted} while all permits are taken wait in a queue of up to
+ * {@link BulkheadConfiguration#queueSize()} calls and run in order as permits are released. Calls which find both the
+ * permits and the queue exhausted fail immediately with a {@link QosException#throttle(QosReason) throttle}, which
+ * clients handle by backing off, rather than piling up behind the slow service. So do calls submitted after the
+ * bulkhead has been closed and calls which the executor rejects: they never run on the submitting thread.
+ */
+public final class Bulkhead implements Closeable {
+
+    private static final SafeLogger log = SafeLoggerFactory.get(Bulkhead.class);
+
+    private static final QosReason BULKHEAD_FULL = QosReason.of("bulkhead-full");
+    private static final long IDLE_THREAD_SECONDS = 60;
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private final int maxConcurrentCalls;
+    private final int queueSize;
+    private final Executor executor;
+
+    // null if the executor is owned by the caller
+    private final ExecutorService ownedExecutor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Call<?>> queue = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+
+    private Bulkhead(BulkheadConfiguration config, Executor executor, ExecutorService ownedExecutor) {
+        this.maxConcurrentCalls = config.maxConcurrentCalls();
+        this.queueSize = config.queueSize();
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+    }
+
+    /**
+     * Creates a bulkhead which runs submitted calls on a new executor of the configured
+     * {@link BulkheadConfiguration#executor() kind}. The executor is shut down when the bulkhead is closed.
+     */
+    public static Bulkhead of(BulkheadConfiguration config) {
+        ExecutorService executor = newExecutor(config);
+        return new Bulkhead(config, executor, executor);
+    }
+
+    /** Creates a bulkhead which runs submitted calls on the given executor, ignoring the configured executor kind. */
+    public static Bulkhead of(BulkheadConfiguration config, Executor executor) {
+        Preconditions.checkNotNull(executor, "executor is required");
+        return new Bulkhead(config, executor, null);
+    }
+
+    /**
+     * Runs the given call on the bulkhead's executor once a permit is available. The returned future fails with a
+     * {@link QosException.Throttle} if no permit is available and the queue is full, if the bulkhead is closed, or if
+     * the executor rejects the call. Cancelling the future before the call has started skips the call.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> call) {
+        Call<T> task = new Call<>(call);
+        if (closed) {
+            task.result.completeExceptionally(saturated());
+        } else if (tryAcquire()) {
+            if (!dispatch(task)) {
+                drain();
+            }
+        } else if (tryEnqueue(task)) {
+            // a permit may have been released before the task was queued
+            drain();
+        } else {
+            task.result.completeExceptionally(saturated());
+        }
+        return task.result;
+    }
+
+    /**
+     * Runs the given call on the calling thread if a permit is available, and otherwise fails immediately with a
+     * {@link QosException.Throttle}. Calls made this way never queue.
+     */
+    public <T> T call(Callable<T> call) throws Exception {
+        if (!tryAcquire()) {
+            throw saturated();
+        }
+        try {
+            return call.call();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Takes a permit if one is available, for callers which manage their own threads. Every successful call must be
+     * followed by exactly one call to {@link #release()}.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxConcurrentCalls) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /** Returns a permit taken by {@link #tryAcquire()}, starting the next queued call if any. */
+    public void release() {
+        inFlight.decrementAndGet();
+        if (queued.get() > 0) {
+            drain();
+        }
+    }
+
+    /** The number of calls currently holding a permit. */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /** The number of submitted calls waiting for a permit. */
+    public int queued() {
+        return queued.get();
+    }
+
+    /**
+     * Rejects further submitted calls and shuts down the executor created by {@link #of(BulkheadConfiguration)}, if
+     * any. Running calls complete; queued calls fail once a permit frees up if the executor no longer accepts them.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private boolean tryEnqueue(Call<?> task) {
+        int current;
+        do {
+            current = queued.get();
+            if (current >= queueSize) {
+                return false;
+            }
+        } while (!queued.compareAndSet(current, current + 1));
+        queue.add(task);
+        return true;
+    }
+
+    /** Starts queued calls for as long as permits are available. */
+    private void drain() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            Call<?> task = queue.poll();
+            if (task == null) {
+                // drained concurrently; hand the permit back, which re-checks the queue
+                release();
+                return;
+            }
+            queued.decrementAndGet();
+            dispatch(task);
+        }
+    }
+
+    /**
+     * Hands the given call, which holds a permit, to the executor. If the executor rejects it, fails the call and
+     * returns its permit without starting queued calls, which is left to the caller, and returns false.
+     */
+    private boolean dispatch(Call<?> task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.debug("Bulkhead executor rejected a call", e);
+            // never run on the calling thread, which would defeat the isolation
+            inFlight.decrementAndGet();
+            task.result.completeExceptionally(saturated());
+            return false;
+        }
+    }
+
+    private final class Call<T> implements Runnable {
+        private final Callable<T> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Call(Callable<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                release();
+                return;
+            }
+            T value = null;
+            Throwable failure = null;
+            try {
+                value = call.call();
+            } catch (Throwable t) {
+                failure = t;
+            }
+            // release before completing, so that callers reacting to the result find the permit available
+            release();
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private QosException.Throttle saturated() {
+        return QosException.throttle(BULKHEAD_FULL);
+    }
+
+    private static ExecutorService newExecutor(BulkheadConfiguration config) {
+        if (config.executor() == BulkheadConfiguration.ExecutorKind.VIRTUAL) {
+            Optional<ExecutorService> virtual = VirtualThreads.newPerTaskExecutor();
+            if (virtual.isPresent()) {
+                return virtual.get();
+            }
+            log.info(
+                    "Virtual threads are not available on this Java version, using platform threads",
+                    SafeArg.of("javaVersion", Runtime.version().feature()));
+        }
+        ThreadFactory threads = runnable -> {
+            Thread thread = new Thread(runnable, "bulkhead-" + THREAD_IDS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // Never more tasks than permits, so the pool never queues.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                config.maxConcurrentCalls(),
+                config.maxConcurrentCalls(),
+                IDLE_THREAD_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                threads);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
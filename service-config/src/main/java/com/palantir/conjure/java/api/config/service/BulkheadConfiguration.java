@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.logsafe.DoNotLog;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * Configures the isolation of calls to a service: at most {@link #maxConcurrentCalls()} calls run at once, up to
+ * {@link #queueSize()} further calls wait for a slot, and any others are rejected immediately. This keeps a slow
+ * service from exhausting threads or connections shared with calls to other services.
+ *
+ * @see Bulkhead
+ */
+@DoNotLog
+@Immutable
+@JsonSerialize(as = ImmutableBulkheadConfiguration.class)
+@JsonDeserialize(builder = BulkheadConfiguration.Builder.class)
+@ImmutablesStyle
+public abstract class BulkheadConfiguration {
+
+    /** The kind of threads calls isolated by a bulkhead run on. */
+    public enum ExecutorKind {
+
+        /** A pool of {@link BulkheadConfiguration#maxConcurrentCalls()} platform threads. */
+        PLATFORM,
+
+        /**
+         * A new virtual thread per call, on Java 21 and later. Falls back to {@link #PLATFORM} threads on earlier
+         * versions.
+         */
+        VIRTUAL,
+    }
+
+    /** The maximum number of calls to the service in flight at the same time. */
+    @JsonProperty("maxConcurrentCalls")
+    @JsonAlias("max-concurrent-calls")
+    public abstract int maxConcurrentCalls();
+
+    /** The maximum number of calls waiting for one of the in-flight calls to complete. Defaults to 0. */
+    @Value.Default
+    @SuppressWarnings("checkstyle:designforextension")
+    @JsonProperty("queueSize")
+    @JsonAlias("queue-size")
+    public int queueSize() {
+        return 0;
+    }
+
+    /** The kind of threads calls run on when submitted to the bulkhead. Defaults to {@link ExecutorKind#PLATFORM}. */
+    @Value.Default
+    @SuppressWarnings("checkstyle:designforextension")
+    @JsonProperty("executor")
+    public ExecutorKind executor() {
+        return ExecutorKind.PLATFORM;
+    }
+
+    @Value.Check
+    protected final void check() {
+        Preconditions.checkArgument(
+                maxConcurrentCalls() > 0,
+                "max-concurrent-calls must be positive",
+                SafeArg.of("maxConcurrentCalls", maxConcurrentCalls()));
+        Preconditions.checkArgument(
+                queueSize() >= 0, "queue-size must not be negative", SafeArg.of("queueSize", queueSize()));
+    }
+
+    public static BulkheadConfiguration of(int maxConcurrentCalls) {
+        return builder().maxConcurrentCalls(maxConcurrentCalls).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder extends ImmutableBulkheadConfiguration.Builder {}
+}
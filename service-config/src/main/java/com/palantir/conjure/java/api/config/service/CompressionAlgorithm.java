@@ -0,0 +1,55 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Locale;
+
+/** HTTP content codings for compressing request and response bodies, see {@link CompressionCodecs}. */
+public enum CompressionAlgorithm {
+    GZIP("gzip"),
+
+    /** The zlib format (RFC 1950), as specified for the {@code deflate} content coding. */
+    DEFLATE("deflate");
+
+    private final String encoding;
+
+    CompressionAlgorithm(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /** The token used in {@code Content-Encoding} and {@code Accept-Encoding} headers. */
+    @JsonValue
+    public String encoding() {
+        return encoding;
+    }
+
+    /** Parses an encoding token, ignoring case. */
+    @JsonCreator
+    public static CompressionAlgorithm fromString(String value) {
+        String lowerCase = value.toLowerCase(Locale.ROOT);
+        for (CompressionAlgorithm algorithm : values()) {
+            if (algorithm.encoding.equals(lowerCase)) {
+                return algorithm;
+            }
+        }
+        throw new SafeIllegalArgumentException("Unknown compression algorithm", SafeArg.of("value", value));
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Streaming codecs for the {@link CompressionAlgorithm compression algorithms} configured on a
+ * {@link ServiceConfiguration}.
+ *
+ * <p>The native {@link Deflater} and {@link Inflater} instances behind the streams are pooled: they are borrowed when a
+ * stream is created and returned when it is closed, avoiding a native allocation per request. Streams must therefore
+ * always be closed; an unclosed stream merely loses its instance to the garbage collector.
+ */
+public final class CompressionCodecs {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int POOL_SIZE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int GZIP_FLAG_HCRC = 2;
+    private static final int GZIP_FLAG_EXTRA = 4;
+    private static final int GZIP_FLAG_NAME = 8;
+    private static final int GZIP_FLAG_COMMENT = 16;
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    // gzip wraps raw deflate data, whereas the deflate coding is the zlib format
+    private static final Pool<Deflater> RAW_DEFLATERS = Pool.deflaters(true);
+    private static final Pool<Deflater> ZLIB_DEFLATERS = Pool.deflaters(false);
+    private static final Pool<Inflater> RAW_INFLATERS = Pool.inflaters(true);
+    private static final Pool<Inflater> ZLIB_INFLATERS = Pool.inflaters(false);
+
+    private CompressionCodecs() {}
+
+    /**
+     * Returns the algorithm with which to compress a request body of the given length: the configured
+     * {@link ServiceConfiguration#requestCompression() request compression}, unless the length is below the configured {@link ServiceConfiguration#requestCompressionMinSize() minimum size}. Pass a negative length
+     * if it is unknown, in which case the body is compressed regardless of the minimum size.
+     */
+    public static Optional<CompressionAlgorithm> requestEncoding(ServiceConfiguration config, long contentLength) {
+        Optional<CompressionAlgorithm> algorithm = config.requestCompression();
+        if (algorithm.isPresent()
+                && contentLength >= 0
+                && contentLength < config.requestCompressionMinSize().orElse(0)) {
+            return Optional.empty();
+        }
+        return algorithm;
+    }
+
+    /**
+     * Returns the value of the {@code Accept-Encoding} header listing the algorithms of the configured
+     * {@link ServiceConfiguration#acceptCompression() accepted compression} in order of preference, or empty if there
+     * are none.
+     */
+    public static Optional<String> acceptEncoding(ServiceConfiguration config) {
+        StringBuilder header = new StringBuilder();
+        for (CompressionAlgorithm algorithm : config.acceptCompression()) {
+            if (header.length() > 0) {
+                header.append(", ");
+            }
+            header.append(algorithm.encoding());
+        }
+        return header.length() == 0 ? Optional.empty() : Optional.of(header.toString());
+    }
+
+    /** Wraps the given stream so that data written to it is compressed. Closing the result closes the given stream. */
+    public static OutputStream compress(CompressionAlgorithm algorithm, OutputStream out) throws IOException {
+        Preconditions.checkNotNull(out, "out is required");
+        Preconditions.checkNotNull(algorithm, "algorithm is required");
+        switch (algorithm) {
+            case GZIP:
+                return new GzipOutputStream(out);
+            case DEFLATE:
+                return new PooledDeflaterOutputStream(out, ZLIB_DEFLATERS);
+        }
+        throw new SafeIllegalArgumentException("Unknown compression algorithm", SafeArg.of("algorithm", algorithm));
+    }
+
+    /** Wraps the given stream so that data read from it is decompressed. Closing the result closes the given stream. */
+    public static InputStream decompress(CompressionAlgorithm algorithm, InputStream in) throws IOException {
+        Preconditions.checkNotNull(in, "in is required");
+        Preconditions.checkNotNull(algorithm, "algorithm is required");
+        switch (algorithm) {
+            case GZIP:
+                return new GzipInputStream(in);
+            case DEFLATE:
+                return new PooledInflaterInputStream(in, ZLIB_INFLATERS);
+        }
+        throw new SafeIllegalArgumentException("Unknown compression algorithm", SafeArg.of("algorithm", algorithm));
+    }
+
+    // visible for testing
+    static int idleGzipDeflaters() {
+        return RAW_DEFLATERS.idle.size();
+    }
+
+    // visible for testing
+    static int idleGzipInflaters() {
+        return RAW_INFLATERS.idle.size();
+    }
+
+    /** A bounded pool of deflaters or inflaters; instances beyond the bound are ended rather than pooled. */
+    private static final class Pool<T> {
+        private final ArrayBlockingQueue<T> idle = new ArrayBlockingQueue<>(POOL_SIZE);
+        private final Supplier<T> factory;
+        private final Consumer<T> reset;
+        private final Consumer<T> end;
+
+        Pool(Supplier<T> factory, Consumer<T> reset, Consumer<T> end) {
+            this.factory = factory;
+            this.reset = reset;
+            this.end = end;
+        }
+
+        static Pool<Deflater> deflaters(boolean nowrap) {
+            return new Pool<>(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap), Deflater::reset, Deflater::end);
+        }
+
+        static Pool<Inflater> inflaters(boolean nowrap) {
+            return new Pool<>(() -> new Inflater(nowrap), Inflater::reset, Inflater::end);
+        }
+
+        T borrow() {
+            T instance = idle.poll();
+            return instance != null ? instance : factory.get();
+        }
+
+        void release(T instance) {
+            reset.accept(instance);
+            if (!idle.offer(instance)) {
+                end.accept(instance);
+            }
+        }
+    }
+
+    private static class PooledDeflaterOutputStream extends DeflaterOutputStream {
+        private final Pool<Deflater> pool;
+        private boolean closed;
+
+        PooledDeflaterOutputStream(OutputStream out, Pool<Deflater> pool) {
+            this(out, pool, pool.borrow());
+        }
+
+        private PooledDeflaterOutputStream(OutputStream out, Pool<Deflater> pool, Deflater deflater) {
+            super(out, deflater, BUFFER_SIZE);
+            this.pool = pool;
+        }
+
+        @Override
+        public void write(byte[] buffer, int off, int len) throws IOException {
+            ensureOpen();
+            super.write(buffer, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            super.finish();
+        }
+
+        @Override
+        public final void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                try {
+                    finish();
+                } catch (Throwable t) {
+                    closeSuppressing(out, t);
+                    throw t;
+                }
+                out.close();
+            } finally {
+                release();
+            }
+        }
+
+        /** Closes the given stream after a failure, recording a failure to close as suppressed by the first. */
+        private static void closeSuppressing(OutputStream stream, Throwable failure) {
+            try {
+                stream.close();
+            } catch (Throwable closeFailure) {
+                failure.addSuppressed(closeFailure);
+            }
+        }
+
+        /** Returns the deflater to the pool without closing the underlying stream. */
+        final void release() {
+            if (!closed) {
+                closed = true;
+                pool.release(def);
+            }
+        }
+
+        /** Fails once the deflater has been returned to the pool, where it may already belong to another stream. */
+        final void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+    }
+
+    /** Writes a single gzip member (RFC 1952) using a pooled raw deflater. */
+    private static final class GzipOutputStream extends PooledDeflaterOutputStream {
+        private final CRC32 crc = new CRC32();
+        private boolean finished;
+
+        GzipOutputStream(OutputStream out) throws IOException {
+            super(out, RAW_DEFLATERS);
+            try {
+                out.write(GZIP_HEADER);
+            } catch (IOException | RuntimeException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int off, int len) throws IOException {
+            super.write(buffer, off, len);
+            crc.update(buffer, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            if (finished) {
+                return;
+            }
+            finished = true;
+            super.finish();
+            writeIntLe((int) crc.getValue());
+            writeIntLe((int) def.getBytesRead());
+        }
+
+        private void writeIntLe(int value) throws IOException {
+            out.write(value);
+            out.write(value >>> 8);
+            out.write(value >>> 16);
+            out.write(value >>> 24);
+        }
+    }
+
+    private static class PooledInflaterInputStream extends InflaterInputStream {
+        private final Pool<Inflater> pool;
+        private boolean closed;
+
+        PooledInflaterInputStream(InputStream in, Pool<Inflater> pool) {
+            this(in, pool, pool.borrow());
+        }
+
+        private PooledInflaterInputStream(InputStream in, Pool<Inflater> pool, Inflater inflater) {
+            super(in, inflater, BUFFER_SIZE);
+            this.pool = pool;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            ensureOpen();
+            return super.read(buffer, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            ensureOpen();
+            return super.available();
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            ensureOpen();
+            return super.skip(count);
+        }
+
+        @Override
+        public final void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        /** Returns the inflater to the pool without closing the underlying stream. */
+        final void release() {
+            if (!closed) {
+                closed = true;
+                pool.release(inf);
+            }
+        }
+
+        /** Fails once the inflater has been returned to the pool, where it may already belong to another stream. */
+        final void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+    }
+
+    /** Reads a single gzip member (RFC 1952) using a pooled raw inflater, verifying its checksum and length. */
+    private static final class GzipInputStream extends PooledInflaterInputStream {
+        private final CRC32 crc = new CRC32();
+        private boolean eof;
+
+        GzipInputStream(InputStream in) throws IOException {
+            super(in, RAW_INFLATERS);
+            try {
+                readHeader(in);
+            } catch (IOException | RuntimeException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            ensureOpen();
+            if (eof) {
+                return -1;
+            }
+            int read = super.read(buffer, off, len);
+            if (read == -1) {
+                eof = true;
+                readTrailer();
+            } else {
+                crc.update(buffer, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            ensureOpen();
+            return eof ? 0 : super.available();
+        }
+
+        private static void readHeader(InputStream in) throws IOException {
+            if (readShortLe(in) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+            if (readByte(in) != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+            int flags = readByte(in);
+            // modification time, extra flags and operating system
+            skipBytes(in, 6);
+            if ((flags & GZIP_FLAG_EXTRA) != 0) {
+                skipBytes(in, readShortLe(in));
+            }
+            if ((flags & GZIP_FLAG_NAME) != 0) {
+                skipZeroTerminated(in);
+            }
+            if ((flags & GZIP_FLAG_COMMENT) != 0) {
+                skipZeroTerminated(in);
+            }
+            if ((flags & GZIP_FLAG_HCRC) != 0) {
+                skipBytes(in, 2);
+            }
+        }
+
+        private void readTrailer() throws IOException {
+            // the inflater may have consumed the trailer into the stream's buffer already
+            int remaining = inf.getRemaining();
+            InputStream trailer = remaining > 0
+                    ? new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), in)
+                    : in;
+            long expectedCrc = readIntLe(trailer);
+            long expectedSize = readIntLe(trailer);
+            if (expectedCrc != crc.getValue() || expectedSize != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+        }
+
+        private static int readByte(InputStream in) throws IOException {
+            int value = in.read();
+            if (value == -1) {
+                throw new EOFException("Unexpected end of GZIP input stream");
+            }
+            return value;
+        }
+
+        private static int readShortLe(InputStream in) throws IOException {
+            return readByte(in) | (readByte(in) << 8);
+        }
+
+        private static long readIntLe(InputStream in) throws IOException {
+            return (readShortLe(in) | ((long) readShortLe(in) << 16)) & 0xffffffffL;
+        }
+
+        private static void skipBytes(InputStream in, int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                readByte(in);
+            }
+        }
+
+        private static void skipZeroTerminated(InputStream in) throws IOException {
+            while (readByte(in) != 0) {
+                // skip
+            }
+        }
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIoException;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * Opens and handshakes connections to the URIs of a service ahead of the first requests, so that those do not pay for
+ * DNS resolution, TCP and TLS handshakes, and reach a server which has already seen traffic.
+ *
+ * <p>The warmer does not set up TLS or proxies itself: it uses the socket factory and proxy selector of the HTTP client
+ * which will use the service, so that warm-up connections are set up exactly like the client's, and TLS sessions
+ * established during warm-up can be resumed by the client. The first proxy chosen by the selector for each URI is used:
+ * HTTP proxies are tunnelled through with {@code CONNECT} by the JDK, which takes credentials from the default
+ * {@link java.net.Authenticator}, and SOCKS proxies are used as such. Connections to {@code https} URIs are
+ * handshaken, including host name verification, and offer HTTP/2 unless it is
+ * {@link ServiceConfiguration#enableHttp2() disabled}. URIs without a port are connected to on the default port of
+ * their scheme, and fail if the scheme has none.
+ *
+ * <p>Connections are opened in parallel, one task per connection, by default on virtual threads where available and
+ * otherwise on a shared pool of daemon threads. A custom executor should be able to run many blocking tasks at once.
+ * Warming up never blocks the caller for longer than the given budget; connections still in progress once it has
+ * passed are closed when they complete and are reported as timed out.
+ */
+public final class ConnectionWarmer {
+
+    private static final SafeLogger log = SafeLoggerFactory.get(ConnectionWarmer.class);
+
+    private final ServiceConfiguration config;
+    private final SSLSocketFactory socketFactory;
+    private final ProxySelector proxySelector;
+    private final Executor executor;
+
+    private ConnectionWarmer(
+            ServiceConfiguration config,
+            SSLSocketFactory socketFactory,
+            ProxySelector proxySelector,
+            Executor executor) {
+        this.config = config;
+        this.socketFactory = socketFactory;
+        this.proxySelector = proxySelector;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a warmer for the given service which connects on virtual threads where available, using the given
+     * socket factory and proxy selector, typically those of the HTTP client which will use the service.
+     */
+    public static ConnectionWarmer of(
+            ServiceConfiguration config, SSLSocketFactory socketFactory, ProxySelector proxySelector) {
+        return of(config, socketFactory, proxySelector, DefaultExecutor.INSTANCE);
+    }
+
+    /** Like {@link #of(ServiceConfiguration, SSLSocketFactory, ProxySelector)}, connecting on the given executor. */
+    public static ConnectionWarmer of(
+            ServiceConfiguration config,
+            SSLSocketFactory socketFactory,
+            ProxySelector proxySelector,
+            Executor executor) {
+        Preconditions.checkNotNull(config, "config is required");
+        Preconditions.checkNotNull(socketFactory, "socketFactory is required");
+        Preconditions.checkNotNull(proxySelector, "proxySelector is required");
+        Preconditions.checkNotNull(executor, "executor is required");
+        return new ConnectionWarmer(config, socketFactory, proxySelector, executor);
+    }
+
+    /** Opens, handshakes and closes the given number of connections to each URI of the service. */
+    public Report warm(int connectionsPerUri, Duration budget) {
+        return warm(connectionsPerUri, budget, ConnectionWarmer::closeQuietly);
+    }
+
+    /**
+     * Opens and handshakes the given number of connections to each URI of the service and passes each connection which
+     * completes within the budget to the given consumer, which takes ownership of it, e.g. to add it to a connection
+     * pool. Returns once all connections have completed or the budget has passed.
+     */
+    public Report warm(int connectionsPerUri, Duration budget, Consumer<Socket> connections) {
+        Preconditions.checkArgument(
+                connectionsPerUri > 0,
+                "connectionsPerUri must be positive",
+                SafeArg.of("connectionsPerUri", connectionsPerUri));
+        Preconditions.checkArgument(
+                !budget.isNegative() && !budget.isZero(), "budget must be positive", SafeArg.of("budget", budget));
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        List<ServiceUri> uris = config.parsedUris();
+        CountDownLatch done = new CountDownLatch(uris.size() * connectionsPerUri);
+        List<Attempt> attempts = new ArrayList<>(uris.size() * connectionsPerUri);
+        for (ServiceUri uri : uris) {
+            for (int i = 0; i < connectionsPerUri; i++) {
+                Attempt attempt = new Attempt(uri, deadline, connections, done);
+                attempts.add(attempt);
+                try {
+                    executor.execute(attempt);
+                } catch (RejectedExecutionException e) {
+                    attempt.fail(e);
+                }
+            }
+        }
+        try {
+            done.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<UriReport> reports = new ArrayList<>(uris.size());
+        for (int i = 0; i < uris.size(); i++) {
+            reports.add(
+                    new UriReport(uris.get(i), attempts.subList(i * connectionsPerUri, (i + 1) * connectionsPerUri)));
+        }
+        Report report = new Report(reports, Duration.ofNanos(System.nanoTime() - start));
+        if (!report.isComplete()) {
+            // URIs may carry credentials, so only counts and durations are safe to log.
+            log.info(
+                    "Connection warm-up did not complete within its budget",
+                    SafeArg.of("budget", budget),
+                    SafeArg.of("elapsed", report.elapsed()),
+                    SafeArg.of("connected", report.count(UriReport::connected)),
+                    SafeArg.of("failed", report.count(UriReport::failed)),
+                    SafeArg.of("timedOut", report.count(UriReport::timedOut)),
+                    UnsafeArg.of("report", report));
+        }
+        return report;
+    }
+
+    private Socket connect(ServiceUri uri, long deadline) throws IOException {
+        if (uri.port() < 0) {
+            throw new SafeIoException(
+                    "Service URI has no port and its scheme has no default port", SafeArg.of("scheme", uri.scheme()));
+        }
+        Proxy proxy = selectProxy(uri);
+        InetSocketAddress address = proxy.type() == Proxy.Type.DIRECT
+                ? new InetSocketAddress(uri.host(), uri.port())
+                // let the proxy resolve the host
+                : InetSocketAddress.createUnresolved(uri.host(), uri.port());
+        Socket socket = open(proxy, address, deadline);
+        return "https".equals(uri.scheme()) ? handshake(socket, uri.host(), uri.port(), deadline) : socket;
+    }
+
+    private Proxy selectProxy(ServiceUri uri) throws IOException {
+        URI target;
+        try {
+            target = new URI(uri.scheme(), null, uri.host(), uri.port(), null, null, null);
+        } catch (URISyntaxException e) {
+            throw new SafeIoException("Failed to select a proxy", e);
+        }
+        List<Proxy> proxies = proxySelector.select(target);
+        return proxies == null || proxies.isEmpty() ? Proxy.NO_PROXY : proxies.get(0);
+    }
+
+    private SSLSocket handshake(Socket socket, String host, int port, long deadline) throws IOException {
+        SSLSocket sslSocket = (SSLSocket) socketFactory.createSocket(socket, host, port, true);
+        try {
+            SSLParameters parameters = sslSocket.getSSLParameters();
+            parameters.setEndpointIdentificationAlgorithm("HTTPS");
+            parameters.setApplicationProtocols(
+                    config.enableHttp2().orElse(true) ? new String[] {"h2", "http/1.1"} : new String[] {"http/1.1"});
+            sslSocket.setSSLParameters(parameters);
+            sslSocket.setSoTimeout(remainingMillis(deadline));
+            sslSocket.startHandshake();
+            sslSocket.setSoTimeout(0);
+            return sslSocket;
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(sslSocket);
+            throw e;
+        }
+    }
+
+    private Socket open(Proxy proxy, InetSocketAddress address, long deadline) throws IOException {
+        int timeout = remainingMillis(deadline);
+        if (config.connectTimeout().isPresent()) {
+            timeout = (int)
+                    Math.min(timeout, Math.max(1, config.connectTimeout().get().toMillis()));
+        }
+        Socket socket = new Socket(proxy);
+        try {
+            socket.setTcpNoDelay(true);
+            socket.connect(address, timeout);
+            return socket;
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(socket);
+            throw e;
+        }
+    }
+
+    private static int remainingMillis(long deadline) throws IOException {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remaining <= 0) {
+            throw new SafeIoException("Connection warm-up budget exhausted");
+        }
+        return (int) Math.min(Integer.MAX_VALUE, remaining);
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("Failed to close warm-up connection", e);
+        }
+    }
+
+    /** Runs warm-up tasks on virtual threads where available, otherwise on daemon threads of a cached pool. */
+    private static final class DefaultExecutor {
+        private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+        private static final Executor INSTANCE = VirtualThreads.newPerTaskExecutor()
+                .orElseGet(() -> Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "connection-warmer-" + THREAD_IDS.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+
+        private DefaultExecutor() {}
+    }
+
+    /** The outcome of a warm-up. */
+    public static final class Report {
+        private final List<UriReport> uris;
+        private final Duration elapsed;
+
+        Report(List<UriReport> uris, Duration elapsed) {
+            this.uris = List.copyOf(uris);
+            this.elapsed = elapsed;
+        }
+
+        /** The outcome for each of the service's URIs, in order. */
+        public List<UriReport> uris() {
+            return uris;
+        }
+
+        /** The time the caller was blocked for. */
+        public Duration elapsed() {
+            return elapsed;
+        }
+
+        /** Returns true if every connection either succeeded or failed within the budget. */
+        public boolean isComplete() {
+            return count(UriReport::timedOut) == 0;
+        }
+
+        private int count(ToIntFunction<UriReport> counter) {
+            return uris.stream().mapToInt(counter).sum();
+        }
+
+        @Override
+        public String toString() {
+            return "Report{uris=" + uris + ", elapsed=" + elapsed + '}';
+        }
+    }
+
+    /** The outcome of warming up the connections to a single URI. */
+    public static final class UriReport {
+        private final ServiceUri uri;
+        private final List<Duration> connectionTimes = new ArrayList<>();
+        private final List<Exception> failures = new ArrayList<>();
+        private int timedOut;
+
+        UriReport(ServiceUri uri, List<Attempt> attempts) {
+            this.uri = uri;
+            for (Attempt attempt : attempts) {
+                attempt.expire(this);
+            }
+        }
+
+        public ServiceUri uri() {
+            return uri;
+        }
+
+        /** The time each successful connection took to connect and handshake, in no particular order. */
+        public List<Duration> connectionTimes() {
+            return List.copyOf(connectionTimes);
+        }
+
+        /** The errors of the connections which failed within the budget. */
+        public List<Exception> failures() {
+            return List.copyOf(failures);
+        }
+
+        private int connected() {
+            return connectionTimes.size();
+        }
+
+        private int failed() {
+            return failures.size();
+        }
+
+        /** The number of connections which had not completed once the budget passed. */
+        public int timedOut() {
+            return timedOut;
+        }
+
+        @Override
+        public String toString() {
+            return "UriReport{uri=" + uri + ", connectionTimes=" + connectionTimes + ", failures=" + failures.size()
+                    + ", timedOut=" + timedOut + '}';
+        }
+    }
+
+    private final class Attempt implements Runnable {
+        private final ServiceUri uri;
+        private final long deadline;
+        private final Consumer<Socket> connections;
+        private final CountDownLatch done;
+
+        // guarded by this
+        private long elapsedNanos = -1;
+        private Exception failure;
+        private boolean expired;
+
+        Attempt(ServiceUri uri, long deadline, Consumer<Socket> connections, CountDownLatch done) {
+            this.uri = uri;
+            this.deadline = deadline;
+            this.connections = connections;
+            this.done = done;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            Socket socket;
+            try {
+                socket = connect(uri, deadline);
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+                return;
+            }
+            boolean accepted;
+            synchronized (this) {
+                accepted = !expired;
+                elapsedNanos = System.nanoTime() - start;
+            }
+            try {
+                if (accepted) {
+                    connections.accept(socket);
+                } else {
+                    closeQuietly(socket);
+                }
+            } finally {
+                // only once handed over, so that the connection is owned by the consumer when warm() returns
+                done.countDown();
+            }
+        }
+
+        void fail(Exception error) {
+            synchronized (this) {
+                failure = error;
+            }
+            done.countDown();
+        }
+
+        /** Records the outcome in the given report; attempts which complete afterwards are discarded. */
+        synchronized void expire(UriReport report) {
+            expired = true;
+            if (elapsedNanos >= 0) {
+                report.connectionTimes.add(Duration.ofNanos(elapsedNanos));
+            } else if (failure != null) {
+                report.failures.add(failure);
+            } else {
+                report.timedOut++;
+            }
+        }
+    }
+}
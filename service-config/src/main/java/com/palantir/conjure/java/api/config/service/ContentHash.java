@@ -0,0 +1,122 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
+import com.palantir.tokens.auth.BearerToken;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hashes the content of a sequence of configuration values into a 64-bit hash. Unlike {@link Object#hashCode()},
+ * which would funnel each value through 32 bits, every value is absorbed through its canonical string form, so two
+ * sequences of values with different content collide about as rarely as random 64-bit values.
+ *
+ * <p>Optionals, collections and maps are absorbed element by element, maps in the order of their keys so that equal
+ * maps hash equally. Secrets which are redacted from {@link Object#toString()} are absorbed explicitly.
+ */
+final class ContentHash {
+
+    private static final long MULTIPLIER = 0x9e3779b97f4a7c15L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long NULL = 1;
+    private static final long EMPTY = 2;
+    private static final long PRESENT = 3;
+    private static final long COLLECTION = 4;
+    private static final long MAP = 5;
+    private static final long STRING = 6;
+
+    private long hash;
+
+    private ContentHash(int length) {
+        this.hash = length;
+    }
+
+    /** Returns a hash of the given values which only depends on their order and content. */
+    static long of(Object... values) {
+        ContentHash content = new ContentHash(values.length);
+        for (Object value : values) {
+            content.absorb(value);
+        }
+        return content.hash;
+    }
+
+    private void absorb(Object value) {
+        if (value == null) {
+            absorbLong(NULL);
+        } else if (value instanceof Optional<?> optional) {
+            if (optional.isPresent()) {
+                absorbLong(PRESENT);
+                absorb(optional.get());
+            } else {
+                absorbLong(EMPTY);
+            }
+        } else if (value instanceof Collection<?> collection) {
+            absorbLong(COLLECTION);
+            absorbLong(collection.size());
+            collection.forEach(this::absorb);
+        } else if (value instanceof Map<?, ?> map) {
+            absorbLong(MAP);
+            absorbLong(map.size());
+            map.entrySet().stream()
+                    .sorted(Comparator.comparing(entry -> String.valueOf(entry.getKey())))
+                    .forEach(entry -> {
+                        absorb(entry.getKey());
+                        absorb(entry.getValue());
+                    });
+        } else if (value instanceof BearerToken token) {
+            absorbString(token.getToken());
+        } else if (value instanceof SslConfiguration security) {
+            absorbString(security.toString());
+            absorb(security.keyStorePassword());
+        } else if (value instanceof ProxyConfiguration proxy) {
+            absorbString(proxy.toString());
+            absorb(proxy.credentials().map(BasicCredentials::password));
+        } else {
+            absorbString(value.toString());
+        }
+    }
+
+    /** FNV-1a over the characters of the string, prefixed by its length so that adjacent strings cannot merge. */
+    private void absorbString(String value) {
+        absorbLong(STRING);
+        absorbLong(value.length());
+        long fnv = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            fnv = (fnv ^ value.charAt(i)) * FNV_PRIME;
+        }
+        absorbLong(fnv);
+    }
+
+    private void absorbLong(long value) {
+        hash = mix(hash * MULTIPLIER + value);
+    }
+
+    /** The finalizer of MurmurHash3's 64-bit variant, so that every input bit affects every output bit. */
+    private static long mix(long value) {
+        long mixed = value;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb9fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * An immutable point in time by which a request must have completed, tracked against {@link System#nanoTime()}.
+ *
+ * <p>Deadlines are passed explicitly rather than held in thread-locals, so they can be carried across asynchronous
+ * stages. To propagate a deadline to a downstream service, send its {@link #toHeaderValue() remaining budget} in the
+ * {@value #HEADER_NAME} header; the downstream service {@link #fromHeaderValue(String) recreates} the deadline
+ * relative to its own clock on receipt, so clocks need not be synchronized across hosts. Network transit time is not
+ * accounted for, which errs on the side of doing work the caller may no longer wait for.
+ */
+public final class Deadline {
+
+    /** The request header carrying the remaining budget of the caller's deadline in milliseconds. */
+    public static final String HEADER_NAME = "X-Deadline-Budget-Ms";
+
+    private final long deadlineNanos;
+    private final LongSupplier nanoClock;
+
+    private Deadline(long deadlineNanos, LongSupplier nanoClock) {
+        this.deadlineNanos = deadlineNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /** Returns a deadline which expires once the given non-negative budget has elapsed. */
+    public static Deadline after(Duration budget) {
+        return after(budget, System::nanoTime);
+    }
+
+    // visible for testing
+    static Deadline after(Duration budget, LongSupplier nanoClock) {
+        Preconditions.checkArgument(!budget.isNegative(), "budget must not be negative", SafeArg.of("budget", budget));
+        return new Deadline(nanoClock.getAsLong() + saturatedNanos(budget), nanoClock);
+    }
+
+    /**
+     * Returns a deadline for a request to the given service, whose budget is the sum of the configured
+     * {@link ServiceConfiguration#connectTimeout() connect} and {@link ServiceConfiguration#readTimeout() read}
+     * timeouts, or empty if neither is configured.
+     */
+    public static Optional<Deadline> forRequest(ServiceConfiguration config) {
+        if (config.connectTimeout().isEmpty() && config.readTimeout().isEmpty()) {
+            return Optional.empty();
+        }
+        Duration budget = config.connectTimeout()
+                .orElse(Duration.ZERO)
+                .plus(config.readTimeout().orElse(Duration.ZERO));
+        return Optional.of(after(budget));
+    }
+
+    /**
+     * Parses the value of a {@value #HEADER_NAME} header into a deadline relative to now. Returns empty if the value
+     * is absent or malformed, since a bad header sent by a caller should not fail its request.
+     */
+    public static Optional<Deadline> fromHeaderValue(String headerValue) {
+        return fromHeaderValue(headerValue, System::nanoTime);
+    }
+
+    // visible for testing
+    static Optional<Deadline> fromHeaderValue(String headerValue, LongSupplier nanoClock) {
+        if (headerValue == null || headerValue.isEmpty() || headerValue.length() > 18) {
+            return Optional.empty();
+        }
+        long millis = 0;
+        for (int i = 0; i < headerValue.length(); i++) {
+            char ch = headerValue.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return Optional.empty();
+            }
+            millis = millis * 10 + (ch - '0');
+        }
+        return Optional.of(after(Duration.ofMillis(millis), nanoClock));
+    }
+
+    /** Returns the remaining budget in milliseconds, rounded down and never negative, for the {@value #HEADER_NAME}. */
+    public String toHeaderValue() {
+        return Long.toString(Math.max(0, remainingNanos()) / 1_000_000);
+    }
+
+    /** The time left until this deadline expires, negative if it already has. */
+    public long remainingNanos() {
+        return deadlineNanos - nanoClock.getAsLong();
+    }
+
+    /** The time left until this deadline expires, or zero if it already has. */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, remainingNanos()));
+    }
+
+    /** Returns true once the deadline has passed, i.e. work on behalf of the request should stop. */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /** Returns the earlier of this and the given deadline. */
+    public Deadline min(Deadline other) {
+        return other.deadlineNanos - deadlineNanos < 0 ? other : this;
+    }
+
+    /**
+     * Returns the given timeout, shortened to the remaining budget if that is smaller. Useful to bound the timeouts of
+     * downstream calls.
+     */
+    public Duration bound(Duration timeout) {
+        Duration remaining = remaining();
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining() + '}';
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            // about 292 years, an effectively infinite budget which still leaves headroom for clock arithmetic
+            return Long.MAX_VALUE / 2;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.palantir.logsafe.DoNotLog;
+import java.time.Duration;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * The timeout and retry settings for requests to one endpoint of a service, obtained by applying the endpoint's
+ * {@link PartialEndpointConfiguration overrides} to the settings of its {@link ServiceConfiguration}.
+ */
+@DoNotLog
+@JsonDeserialize(as = ImmutableEndpointConfiguration.class)
+@Value.Immutable
+@ImmutablesStyle
+public interface EndpointConfiguration {
+
+    Optional<Duration> readTimeout();
+
+    Optional<Duration> writeTimeout();
+
+    Optional<Integer> maxNumRetries();
+
+    Optional<Duration> backoffSlotSize();
+
+    static ImmutableEndpointConfiguration.Builder builder() {
+        return new Builder();
+    }
+
+    class Builder extends ImmutableEndpointConfiguration.Builder {}
+}
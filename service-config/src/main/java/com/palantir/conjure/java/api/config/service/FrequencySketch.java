@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+/**
+ * A count-min sketch of 4-bit counters estimating how often keys have been accessed, with periodic aging so that
+ * estimates reflect recent history. Used by {@link ResponseCache} to admit new entries only if they are accessed more
+ * often than the entries they would displace (TinyLFU). Not thread-safe.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maxEntries) {
+        int length = Integer.highestOneBit(Math.max(8, Math.min(maxEntries, 1 << 30)) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * maxEntries);
+    }
+
+    /** Returns the estimated number of recent accesses to the given key, at most 15. */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, (int) ((table[index(hash, i)] >>> offset(hash, i)) & MAX_COUNT));
+        }
+        return frequency;
+    }
+
+    /** Records an access to the given key, halving all counters once enough accesses have been recorded. */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = index(hash, i);
+            int offset = offset(hash, i);
+            if (((table[index] >>> offset) & MAX_COUNT) < MAX_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    /** Returns the index of the long holding the counter of the given hash function. */
+    private int index(int hash, int function) {
+        long mixed = (hash + SEEDS[function]) * SEEDS[function];
+        mixed += mixed >>> 32;
+        return (int) mixed & tableMask;
+    }
+
+    /** Returns the bit offset of the counter of the given hash function within its long. */
+    private static int offset(int hash, int function) {
+        return ((hash >>> (function << 3)) & MAX_COUNT) << 2;
+    }
+
+    private static int spread(int hash) {
+        int spread = hash * 0x9e3779b9;
+        return spread ^ (spread >>> 16);
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A timer for large numbers of short, mostly cancelled timeouts such as per-request read and write timeouts,
+ * {@link Deadline deadlines} and retry backoff delays.
+ *
+ * <p>Timeouts are hashed into a fixed-size wheel of buckets, each covering one tick. Unlike
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}, whose priority queue costs O(log n) under a lock, both
+ * {@link #schedule(Runnable, long, TimeUnit) scheduling} and {@link Timeout#cancel() cancelling} are O(1) and
+ * lock-free: new timeouts are pushed onto an intrusive stack which a single worker thread drains into the bucket lists
+ * every tick, and cancelling merely marks a timeout, which the worker unlinks the next time it visits its bucket. The
+ * price is precision: timeouts fire on the first tick at or after their deadline, i.e. up to one tick late.
+ *
+ * <p>Tasks run on the worker thread and must be short; hand longer work off to an executor. Runtime exceptions thrown
+ * by tasks are logged, while an {@link Error} propagates, stopping the worker thread and closing the timer.
+ */
+public final class HashedWheelTimer implements Closeable {
+
+    private static final SafeLogger log = SafeLoggerFactory.get(HashedWheelTimer.class);
+
+    /** The default tick, suited to timeouts in the order of milliseconds or more. */
+    public static final Duration DEFAULT_TICK = Duration.ofMillis(1);
+
+    /** The default number of buckets, covering about half a second per revolution with the default tick. */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /** A handle to a scheduled task. */
+    public interface Timeout {
+        /** Cancels the task if it has not run yet. Returns true if this call cancelled it. */
+        boolean cancel();
+
+        boolean isCancelled();
+
+        boolean isExpired();
+    }
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startNanos;
+    /** The top of a stack of newly scheduled entries, linked through {@link Entry#nextScheduled}. */
+    private final AtomicReference<Entry> scheduled = new AtomicReference<>();
+
+    private final LongAdder pending = new LongAdder();
+    private final Thread worker;
+    private volatile boolean closed;
+
+    private HashedWheelTimer(Duration tick, int wheelSize, String threadName) {
+        this.tickNanos = tick.toNanos();
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /** Creates a timer with the {@link #DEFAULT_TICK default tick} and {@link #DEFAULT_WHEEL_SIZE wheel size}. */
+    public static HashedWheelTimer create() {
+        return create(DEFAULT_TICK, DEFAULT_WHEEL_SIZE);
+    }
+
+    /** Creates a timer whose wheel has the given number of buckets, which must be a power of two, of one tick each. */
+    public static HashedWheelTimer create(Duration tick, int wheelSize) {
+        Preconditions.checkArgument(
+                !tick.isNegative() && !tick.isZero(), "tick must be positive", SafeArg.of("tick", tick));
+        Preconditions.checkArgument(
+                wheelSize > 0 && Integer.bitCount(wheelSize) == 1,
+                "wheelSize must be a positive power of two",
+                SafeArg.of("wheelSize", wheelSize));
+        return new HashedWheelTimer(tick, wheelSize, "hashed-wheel-timer");
+    }
+
+    /** Runs the given task on the timer thread once the given delay has passed, unless cancelled first. */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Preconditions.checkNotNull(task, "task is required");
+        if (closed) {
+            throw new SafeIllegalStateException("Timer has been closed");
+        }
+        long deadline = System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay));
+        if (deadline < 0) {
+            // overflow of a huge delay
+            deadline = Long.MAX_VALUE;
+        }
+        Entry entry = new Entry(this, task, deadline);
+        pending.increment();
+        Entry top;
+        do {
+            top = scheduled.get();
+            entry.nextScheduled = top;
+        } while (!scheduled.compareAndSet(top, entry));
+        return entry;
+    }
+
+    /** Like {@link #schedule(Runnable, long, TimeUnit)}. */
+    public Timeout schedule(Runnable task, Duration delay) {
+        return schedule(task, saturatedNanos(delay), TimeUnit.NANOSECONDS);
+    }
+
+    /** The number of scheduled tasks which have neither run nor been cancelled. */
+    public long pendingTimeouts() {
+        return pending.sum();
+    }
+
+    /** Stops the timer. Tasks which have not run yet never will. */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+    }
+
+    private void run() {
+        try {
+            long tick = 0;
+            while (!closed) {
+                long deadline = tickNanos * (tick + 1);
+                if (!awaitTick(deadline)) {
+                    return;
+                }
+                transferScheduled(tick);
+                wheel[(int) (tick & mask)].expire();
+                tick++;
+            }
+        } finally {
+            // reject further tasks should an error have stopped the worker
+            closed = true;
+        }
+    }
+
+    /** Sleeps until the given offset from the start time. Returns false if the timer was closed meanwhile. */
+    private boolean awaitTick(long deadline) {
+        while (true) {
+            long remaining = deadline - (System.nanoTime() - startNanos);
+            if (remaining <= 0) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private void transferScheduled(long tick) {
+        Entry next = scheduled.getAndSet(null);
+        while (next != null) {
+            Entry entry = next;
+            next = entry.nextScheduled;
+            entry.nextScheduled = null;
+            if (entry.state != Entry.PENDING) {
+                continue;
+            }
+            long expiryTick = entry.deadline / tickNanos;
+            entry.remainingRounds = (expiryTick - tick) / wheel.length;
+            // deadlines in the past expire on the current tick
+            long bucketTick = Math.max(expiryTick, tick);
+            wheel[(int) (bucketTick & mask)].add(entry);
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return duration.isNegative() ? 0 : Long.MAX_VALUE;
+        }
+    }
+
+    /** A doubly-linked list of entries, only accessed by the worker thread. */
+    private static final class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        void add(Entry entry) {
+            if (head == null) {
+                head = entry;
+                tail = entry;
+            } else {
+                tail.next = entry;
+                entry.prev = tail;
+                tail = entry;
+            }
+        }
+
+        /** Expires the entries due in this revolution of the wheel, which are all due at or before the current tick. */
+        void expire() {
+            Entry entry = head;
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.remainingRounds <= 0) {
+                    remove(entry);
+                    entry.expire();
+                } else if (entry.state != Entry.PENDING) {
+                    remove(entry);
+                } else {
+                    entry.remainingRounds--;
+                }
+                entry = next;
+            }
+        }
+
+        void remove(Entry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            } else {
+                tail = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+
+    private static final class Entry implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Entry> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = PENDING;
+
+        // written before publication to the scheduled stack, then only accessed by the worker thread
+        private Entry nextScheduled;
+
+        // only accessed by the worker thread
+        private long remainingRounds;
+        private Entry prev;
+        private Entry next;
+
+        Entry(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrement();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        void expire() {
+            if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                return;
+            }
+            timer.pending.decrement();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Timer task threw an exception", e);
+            }
+        }
+    }
+}
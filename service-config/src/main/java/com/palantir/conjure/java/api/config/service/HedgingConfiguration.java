@@ -0,0 +1,96 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.logsafe.DoNotLog;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.Optional;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * Configures request hedging: if a request has not completed within the hedge delay, a backup request is sent (usually
+ * to a different node) and whichever completes first is used. Hedging must only be used for idempotent requests.
+ *
+ * <p>The hedge delay is either the fixed {@link #delay()}, or the {@link #delayPercentile() percentile} of recently
+ * observed latencies. If both are configured, the fixed delay is used until enough latencies have been observed.
+ *
+ * @see HedgingExecutor
+ */
+@DoNotLog
+@Immutable
+@JsonSerialize(as = ImmutableHedgingConfiguration.class)
+@JsonDeserialize(builder = HedgingConfiguration.Builder.class)
+@ImmutablesStyle
+public abstract class HedgingConfiguration {
+
+    /** The time after which a backup request is sent. */
+    public abstract Optional<HumanReadableDuration> delay();
+
+    /**
+     * The percentile of observed request latencies, between 0 and 100 exclusive, after which a backup request is
+     * sent. For example, {@code 95} hedges the slowest 5% of requests, subject to the {@link #budgetPercent() budget}.
+     */
+    @JsonAlias("delay-percentile")
+    public abstract Optional<Double> delayPercentile();
+
+    /**
+     * The maximum number of backup requests as a percentage of requests, bounding the extra load caused by hedging.
+     * Defaults to 10.
+     */
+    @Value.Default
+    @SuppressWarnings("checkstyle:designforextension")
+    @JsonProperty("budgetPercent")
+    @JsonAlias("budget-percent")
+    public double budgetPercent() {
+        return 10;
+    }
+
+    @Value.Check
+    protected final void check() {
+        Preconditions.checkArgument(
+                delay().isPresent() || delayPercentile().isPresent(), "Hedging requires a delay or a delay-percentile");
+        delayPercentile()
+                .ifPresent(percentile -> Preconditions.checkArgument(
+                        percentile > 0 && percentile < 100,
+                        "delay-percentile must be between 0 and 100 exclusive",
+                        SafeArg.of("delayPercentile", percentile)));
+        Preconditions.checkArgument(
+                budgetPercent() >= 0 && budgetPercent() <= 100,
+                "budget-percent must be between 0 and 100",
+                SafeArg.of("budgetPercent", budgetPercent()));
+    }
+
+    public static HedgingConfiguration of(HumanReadableDuration delay) {
+        return builder().delay(delay).build();
+    }
+
+    public static HedgingConfiguration ofPercentile(double delayPercentile) {
+        return builder().delayPercentile(delayPercentile).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder extends ImmutableHedgingConfiguration.Builder {}
+}
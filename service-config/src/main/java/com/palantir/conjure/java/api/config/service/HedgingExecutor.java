@@ -0,0 +1,244 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Executes idempotent calls with {@link HedgingConfiguration hedging}: the primary attempt is started immediately and,
+ * if it has not completed after the hedge delay and the hedging budget allows, a backup attempt is started. The first
+ * attempt to succeed completes the call and the other attempt is cancelled. The call only fails once every started
+ * attempt has failed; a failure of the primary attempt before the hedge delay fails the call without hedging, as
+ * retrying is not the purpose of hedging.
+ *
+ * <p>The hedging budget is a token bucket: every call earns {@link HedgingConfiguration#budgetPercent()} percent of a
+ * token, up to a burst of {@value #MAX_BURST} tokens, and every backup attempt spends one token.
+ *
+ * <p>When hedging on a {@link HedgingConfiguration#delayPercentile() latency percentile}, the latency of each successful
+ * call is recorded from the start of its primary attempt, and the hedge delay is recomputed every {@value #WINDOW_SIZE}
+ * calls. A call won by its backup thus records the primary attempt as taking at least as long as the call, rather than
+ * the shorter latency of the backup alone, which would drag the percentile and with it the hedge delay down.
+ *
+ * <p>Backup attempts are started on an executor rather than on the scheduler, so that slow attempts do not delay the
+ * hedges of other calls.
+ */
+public final class HedgingExecutor {
+
+    private static final long TOKEN = 1000;
+    private static final int MAX_BURST = 10;
+    private static final int WINDOW_SIZE = 1000;
+    private static final long NO_HEDGE = -1;
+
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final long earnedPerCall;
+    private final double delayPercentile;
+    private final LatencyHistogram latencies;
+    private final AtomicLong balance = new AtomicLong();
+    private final AtomicInteger samples = new AtomicInteger();
+    private final AtomicLong hedges = new AtomicLong();
+    private volatile long delayNanos;
+
+    private HedgingExecutor(HedgingConfiguration config, ScheduledExecutorService scheduler, Executor executor) {
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.earnedPerCall = Math.round(config.budgetPercent() * TOKEN / 100);
+        this.delayPercentile = config.delayPercentile().orElse(Double.NaN);
+        this.latencies = config.delayPercentile().isPresent() ? new LatencyHistogram() : null;
+        this.delayNanos =
+                config.delay().map(delay -> delay.toJavaDuration().toNanos()).orElse(NO_HEDGE);
+    }
+
+    /**
+     * Creates an executor which schedules backup attempts on the given scheduler, and starts them on virtual threads if
+     * available or otherwise on a shared pool of daemon threads.
+     */
+    public static HedgingExecutor of(HedgingConfiguration config, ScheduledExecutorService scheduler) {
+        return of(config, scheduler, DefaultExecutor.INSTANCE);
+    }
+
+    /** Like {@link #of(HedgingConfiguration, ScheduledExecutorService)}, starting backup attempts on the given executor. */
+    public static HedgingExecutor of(
+            HedgingConfiguration config, ScheduledExecutorService scheduler, Executor executor) {
+        Preconditions.checkNotNull(config, "config is required");
+        Preconditions.checkNotNull(scheduler, "scheduler is required");
+        Preconditions.checkNotNull(executor, "executor is required");
+        return new HedgingExecutor(config, scheduler, executor);
+    }
+
+    /**
+     * Executes a hedged call. The given function starts attempt {@code 0} (the primary) or {@code 1} (the backup), and
+     * should send them to different nodes. Cancelling the returned future cancels all started attempts.
+     */
+    public <T> CompletableFuture<T> execute(IntFunction<? extends CompletableFuture<T>> attempt) {
+        earn();
+        Race<T> race = new Race<>(attempt);
+        race.start(0);
+        long delay = delayNanos;
+        if (delay != NO_HEDGE && !race.result.isDone()) {
+            race.hedgeTimer = scheduler.schedule(race::hedge, delay, TimeUnit.NANOSECONDS);
+            if (race.result.isDone()) {
+                race.hedgeTimer.cancel(false);
+            }
+        }
+        return race.result;
+    }
+
+    /** The number of backup attempts started so far. */
+    public long hedgeCount() {
+        return hedges.get();
+    }
+
+    // visible for testing
+    long delayNanos() {
+        return delayNanos;
+    }
+
+    private void earn() {
+        long max = MAX_BURST * TOKEN;
+        long current;
+        do {
+            current = balance.get();
+            if (current >= max) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(max, current + earnedPerCall)));
+    }
+
+    private boolean trySpend() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    private void recordLatency(long nanos) {
+        if (latencies == null) {
+            return;
+        }
+        latencies.record(nanos);
+        if (samples.incrementAndGet() % WINDOW_SIZE == 0) {
+            long percentile = latencies.percentile(delayPercentile);
+            latencies.reset();
+            if (percentile >= 0) {
+                delayNanos = percentile;
+            }
+        }
+    }
+
+    private static final class DefaultExecutor {
+        private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+        private static final Executor INSTANCE = VirtualThreads.newPerTaskExecutor()
+                .orElseGet(() -> Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "hedging-executor-" + THREAD_IDS.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+
+        private DefaultExecutor() {}
+    }
+
+    private final class Race<T> {
+        private final IntFunction<? extends CompletableFuture<T>> attempt;
+        private final long startNanos = System.nanoTime();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        // the primary attempt counts as started from the outset
+        private final AtomicInteger started = new AtomicInteger(1);
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private final CompletableFuture<?>[] attempts = new CompletableFuture<?>[2];
+
+        private volatile Future<?> hedgeTimer;
+
+        Race(IntFunction<? extends CompletableFuture<T>> attempt) {
+            this.attempt = attempt;
+            result.whenComplete((_value, _error) -> cancelAll());
+        }
+
+        void hedge() {
+            if (!result.isDone() && trySpend()) {
+                hedges.incrementAndGet();
+                // counted as started before it runs, so that a failing primary does not fail the call in the meantime
+                started.incrementAndGet();
+                try {
+                    executor.execute(() -> start(1));
+                } catch (RejectedExecutionException e) {
+                    fail(e);
+                }
+            }
+        }
+
+        void start(int index) {
+            CompletableFuture<T> future;
+            try {
+                future = attempt.apply(index);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            synchronized (this) {
+                attempts[index] = future;
+            }
+            if (result.isDone()) {
+                future.cancel(true);
+                return;
+            }
+            future.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (result.complete(value)) {
+                        recordLatency(System.nanoTime() - startNanos);
+                    }
+                } else {
+                    fail(error);
+                }
+            });
+        }
+
+        private void fail(Throwable error) {
+            if (failed.incrementAndGet() == started.get()) {
+                result.completeExceptionally(error);
+            }
+        }
+
+        private void cancelAll() {
+            Future<?> timer = hedgeTimer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            synchronized (this) {
+                for (CompletableFuture<?> future : attempts) {
+                    if (future != null) {
+                        future.cancel(true);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -52,11 +52,21 @@ public final class HostAndPort {
         this.port = port;
     }
 
+    /** Returns the hostname or IPv4/IPv6 literal, without brackets. */
+    public String getHost() {
+        return host;
+    }
+
     /** Return true if this instance has a defined port. */
     boolean hasPort() {
         return port >= 0;
     }
 
+    /** Returns the current port number, with a default if no port is defined. */
+    public int getPortOrDefault(int defaultPort) {
+        return hasPort() ? port : defaultPort;
+    }
+
     public static HostAndPort fromString(String hostPortString) {
         Preconditions.checkNotNull(hostPortString, "hostPortString");
         String host;
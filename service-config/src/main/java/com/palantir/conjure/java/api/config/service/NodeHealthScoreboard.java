@@ -0,0 +1,262 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.conjure.java.api.errors.QosException;
+import com.palantir.conjure.java.api.errors.QosException.RetryOther;
+import com.palantir.conjure.java.api.errors.QosException.Throttle;
+import com.palantir.conjure.java.api.errors.QosException.Unavailable;
+import com.palantir.conjure.java.api.errors.RemoteException;
+import com.palantir.conjure.java.api.errors.UnknownRemoteException;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the health of each node of a service based on the outcomes of requests sent to it, and ejects outliers.
+ *
+ * <p>For every node, the scoreboard maintains an exponentially weighted moving average of the failure rate (between 0
+ * and 1) and of the request latency. A request counts as a node failure if it failed with an
+ * {@link QosException.Unavailable}, with a {@link RemoteException} or {@link UnknownRemoteException} with a 5xx
+ * status, or with any other non-remote error such as an {@link java.io.IOException}. A
+ * {@link QosException.Throttle} counts as half a failure: the node is busy rather than broken, so throttling alone does
+ * not reach the default threshold, but it adds to other failures. Remote 4xx errors and
+ * {@link QosException.RetryOther} redirects indicate a problem with the request or a deliberate hand-off rather than
+ * with the node and count as successes.
+ *
+ * <p>Once a node's failure score reaches the configured threshold, the node is ejected for the configured duration,
+ * unless doing so would eject more than the configured percentage of nodes. After the ejection duration has passed,
+ * the node is re-admitted with a clean failure score.
+ *
+ * <p>All state is kept in lock-free primitive arrays, so recording outcomes and querying nodes does not allocate.
+ */
+public final class NodeHealthScoreboard {
+
+    /** The weight of each new sample in the moving averages. */
+    private static final double DECAY = 0.1;
+
+    private static final long NOT_EJECTED = Long.MIN_VALUE;
+
+    private static final QosException.Visitor<Double> QOS_FAILURE_WEIGHTS = new QosException.Visitor<>() {
+        @Override
+        public Double visit(Throttle _exception) {
+            return 0.5;
+        }
+
+        @Override
+        public Double visit(RetryOther _exception) {
+            return 0.0;
+        }
+
+        @Override
+        public Double visit(Unavailable _exception) {
+            return 1.0;
+        }
+    };
+
+    public static final double DEFAULT_FAILURE_THRESHOLD = 0.5;
+    public static final int DEFAULT_MAX_EJECTION_PERCENT = 50;
+    public static final Duration DEFAULT_EJECTION_DURATION = Duration.ofSeconds(30);
+
+    private final int nodes;
+    private final double failureThreshold;
+    private final int maxEjected;
+    private final long ejectionNanos;
+    private final LongSupplier nanoClock;
+
+    // doubles stored as raw long bits
+    private final PaddedAtomicLongArray failureScores;
+    private final PaddedAtomicLongArray latencies;
+    private final PaddedAtomicLongArray ejectedUntil;
+    private final AtomicInteger ejected = new AtomicInteger();
+    private final List<IntConsumer> readmissionListeners = new CopyOnWriteArrayList<>();
+
+    // visible for testing
+    NodeHealthScoreboard(
+            int nodes,
+            double failureThreshold,
+            int maxEjectionPercent,
+            Duration ejectionDuration,
+            LongSupplier nanoClock) {
+        Preconditions.checkArgument(nodes > 0, "At least one node is required");
+        Preconditions.checkArgument(
+                failureThreshold > 0 && failureThreshold <= 1,
+                "failureThreshold must be in (0, 1]",
+                SafeArg.of("failureThreshold", failureThreshold));
+        Preconditions.checkArgument(
+                maxEjectionPercent >= 0 && maxEjectionPercent <= 100,
+                "maxEjectionPercent must be in [0, 100]",
+                SafeArg.of("maxEjectionPercent", maxEjectionPercent));
+        Preconditions.checkArgument(
+                !ejectionDuration.isNegative(),
+                "ejectionDuration must not be negative",
+                SafeArg.of("ejectionDuration", ejectionDuration));
+        this.nodes = nodes;
+        this.failureThreshold = failureThreshold;
+        this.maxEjected = nodes * maxEjectionPercent / 100;
+        this.ejectionNanos = ejectionDuration.toNanos();
+        this.nanoClock = nanoClock;
+        this.failureScores = new PaddedAtomicLongArray(nodes);
+        this.latencies = new PaddedAtomicLongArray(nodes);
+        this.ejectedUntil = new PaddedAtomicLongArray(nodes);
+        for (int i = 0; i < nodes; i++) {
+            ejectedUntil.set(i, NOT_EJECTED);
+        }
+    }
+
+    /** Creates a scoreboard for the given number of nodes using default ejection settings. */
+    public static NodeHealthScoreboard create(int nodes) {
+        return create(nodes, DEFAULT_FAILURE_THRESHOLD, DEFAULT_MAX_EJECTION_PERCENT, DEFAULT_EJECTION_DURATION);
+    }
+
+    /**
+     * Creates a scoreboard for the given number of nodes which ejects a node for {@code ejectionDuration} once its
+     * failure score reaches {@code failureThreshold}, while never ejecting more than {@code maxEjectionPercent} percent
+     * of the nodes (rounded down) at the same time.
+     */
+    public static NodeHealthScoreboard create(
+            int nodes, double failureThreshold, int maxEjectionPercent, Duration ejectionDuration) {
+        return new NodeHealthScoreboard(
+                nodes, failureThreshold, maxEjectionPercent, ejectionDuration, System::nanoTime);
+    }
+
+    /** The number of nodes tracked by this scoreboard. */
+    public int nodes() {
+        return nodes;
+    }
+
+    /** Records a successful request against the given node. */
+    public void recordSuccess(int node, long latencyNanos) {
+        record(node, 0, latencyNanos);
+    }
+
+    /** Records a request against the given node which failed with the given error. */
+    public void recordFailure(int node, Throwable failure, long latencyNanos) {
+        record(node, failureWeight(failure), latencyNanos);
+    }
+
+    /** The moving average of the failure rate of the given node, between 0 and 1. */
+    public double failureScore(int node) {
+        return Double.longBitsToDouble(failureScores.get(node));
+    }
+
+    /** The moving average of the latency of requests against the given node, or 0 if there have been none. */
+    public long latencyNanos(int node) {
+        return (long) Double.longBitsToDouble(latencies.get(node));
+    }
+
+    /** Returns true if the given node is currently ejected and should not receive requests. */
+    public boolean isEjected(int node) {
+        long until = ejectedUntil.get(node);
+        if (until == NOT_EJECTED) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - until < 0) {
+            return true;
+        }
+        if (ejectedUntil.compareAndSet(node, until, NOT_EJECTED)) {
+            failureScores.set(node, Double.doubleToRawLongBits(0));
+            ejected.decrementAndGet();
+            for (IntConsumer listener : readmissionListeners) {
+                listener.accept(node);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers a callback which is invoked with the index of every node re-admitted after its ejection, for example
+     * {@link SlowStartRamp#start(int)}. Callbacks run on the thread which observes the re-admission and must be cheap.
+     * Listeners are held until {@link #removeReadmissionListener(IntConsumer) removed}.
+     */
+    public void addReadmissionListener(IntConsumer listener) {
+        readmissionListeners.add(Preconditions.checkNotNull(listener, "listener is required"));
+    }
+
+    /** Unregisters a callback previously registered with {@link #addReadmissionListener(IntConsumer)}, if present. */
+    public void removeReadmissionListener(IntConsumer listener) {
+        readmissionListeners.remove(listener);
+    }
+
+    /** The number of currently ejected nodes. */
+    public int ejectedCount() {
+        return ejected.get();
+    }
+
+    private void record(int node, double failure, long latencyNanos) {
+        double score = update(failureScores, node, failure, false);
+        update(latencies, node, latencyNanos, true);
+        if (failure > 0 && score >= failureThreshold) {
+            tryEject(node);
+        }
+    }
+
+    private void tryEject(int node) {
+        if (ejectedUntil.get(node) != NOT_EJECTED) {
+            return;
+        }
+        int current;
+        do {
+            current = ejected.get();
+            if (current >= maxEjected) {
+                return;
+            }
+        } while (!ejected.compareAndSet(current, current + 1));
+
+        if (!ejectedUntil.compareAndSet(node, NOT_EJECTED, nanoClock.getAsLong() + ejectionNanos)) {
+            // ejected concurrently by another thread
+            ejected.decrementAndGet();
+        }
+    }
+
+    /** Folds the given sample into the moving average stored at the given index and returns the new average. */
+    private static double update(PaddedAtomicLongArray averages, int node, double sample, boolean seed) {
+        while (true) {
+            long bits = averages.get(node);
+            double current = Double.longBitsToDouble(bits);
+            // When seeding, an unset (zero) average is replaced by the first sample rather than decaying towards it.
+            double next = seed && bits == 0 ? sample : current + DECAY * (sample - current);
+            if (averages.compareAndSet(node, bits, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+        }
+    }
+
+    /** How much the given failure counts against the node it was sent to, between 0 and 1. */
+    // visible for testing
+    static double failureWeight(Throwable failure) {
+        if (failure instanceof QosException) {
+            return ((QosException) failure).accept(QOS_FAILURE_WEIGHTS);
+        }
+        if (failure instanceof RemoteException) {
+            return serverErrorWeight(((RemoteException) failure).getStatus());
+        }
+        if (failure instanceof UnknownRemoteException) {
+            return serverErrorWeight(((UnknownRemoteException) failure).getStatus());
+        }
+        return 1;
+    }
+
+    private static double serverErrorWeight(int status) {
+        return status >= 500 ? 1 : 0;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+/** Strategies for choosing which of a service's {@link ServiceConfiguration#uris() URIs} to send a request to. */
+public enum NodeSelectionStrategy {
+
+    /** Cycles through all nodes in order. */
+    ROUND_ROBIN,
+
+    /**
+     * Sends all requests to one node until a request against it fails, then moves on to the next node. The initially
+     * pinned node is chosen at random so that clients spread out across nodes.
+     */
+    PIN_UNTIL_ERROR,
+
+    /**
+     * Sends each request to the node with the fewest in-flight requests, breaking ties by the lower
+     * {@link NodeHealthScoreboard#latencyNanos(int) latency score} if a scoreboard is present, and otherwise at random.
+     */
+    LEAST_OUTSTANDING_REQUESTS,
+
+    /**
+     * Picks two distinct nodes at random and sends the request to the one with fewer in-flight requests, breaking ties
+     * like {@link #LEAST_OUTSTANDING_REQUESTS}. Approximates {@link #LEAST_OUTSTANDING_REQUESTS} in constant time.
+     */
+    POWER_OF_TWO_CHOICES,
+
+    /**
+     * Picks a node at random in proportion to its configured {@link UriConfiguration#weight() weight}, preferring nodes
+     * in the {@link ServicesConfigBlock#localZone() local zone}. Samples a {@link WeightedNodeTable} in constant time;
+     * selectors created from plain node lists weigh all nodes equally.
+     */
+    WEIGHTED_ZONE_AWARE,
+}
@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Chooses the node, i.e. one of the {@link ServiceConfiguration#parsedUris() service URIs}, to send each request to.
+ * Implementations are thread-safe and do not allocate per selection.
+ *
+ * <p>Every call to {@link #select()} must be paired with exactly one call to {@link #complete(int, boolean)} once the
+ * request has finished, so that per-node in-flight counts remain accurate:
+ *
+ * <pre>{@code
+ * int node = selector.select();
+ * boolean success = false;
+ * try {
+ *     execute(selector.nodes().get(node));
+ *     success = true;
+ * } finally {
+ *     selector.complete(node, success);
+ * }
+ * }</pre>
+ *
+ * <p>Selectors which start their {@link SlowStartRamp} on re-admissions are registered with the scoreboard, and must be
+ * {@link #close() closed} once replaced.
+ */
+public interface NodeSelector extends Closeable {
+
+    /** The nodes to choose from, indexed consistently with {@link #select()}. */
+    List<ServiceUri> nodes();
+
+    /** Returns the index into {@link #nodes()} of the node the next request should be sent to. */
+    int select();
+
+    /** Records that a request previously sent to the given node has finished. */
+    void complete(int node, boolean success);
+
+    /** Returns the number of requests currently in flight against the given node. */
+    int inFlight(int node);
+
+    /** Unregisters this selector from its {@link NodeHealthScoreboard scoreboard}, if any. Selection still works. */
+    @Override
+    void close();
+
+    /** Creates a selector for the given non-empty list of nodes. */
+    static NodeSelector of(NodeSelectionStrategy strategy, List<ServiceUri> nodes) {
+        return NodeSelectors.create(strategy, nodes, Optional.empty());
+    }
+
+    /**
+     * Like {@link #of(NodeSelectionStrategy, List)}, but avoids nodes which are currently
+     * {@link NodeHealthScoreboard#isEjected(int) ejected} by the given scoreboard: each strategy chooses among the
+     * admitted nodes only, so that the share of an ejected node is spread across them, and uses the
+     * {@link NodeHealthScoreboard#latencyNanos(int) latency score} to break ties between equally loaded nodes. If every
+     * node is ejected, one is chosen at random. The scoreboard must track the same number of nodes.
+     */
+    static NodeSelector of(NodeSelectionStrategy strategy, List<ServiceUri> nodes, NodeHealthScoreboard health) {
+        return NodeSelectors.create(strategy, nodes, Optional.of(health));
+    }
+
+    /**
+     * Creates a selector over the {@link ServiceConfiguration#parsedUris() URIs} of the given service, weighted by its
+     * {@link ServiceConfiguration#nodeTable() node table}.
+     */
+    static NodeSelector of(NodeSelectionStrategy strategy, ServiceConfiguration config) {
+        return NodeSelectors.create(
+                strategy, config.parsedUris(), Optional.empty(), config.nodeTable(), Optional.empty());
+    }
+
+    /**
+     * Like {@link #of(NodeSelectionStrategy, ServiceConfiguration)}, but avoids nodes ejected by the given scoreboard,
+     * if any, and ramps up the traffic sent to nodes started by the given {@link SlowStartRamp}, so that each node's
+     * share of the traffic follows its ramp {@link SlowStartRamp#weight(int) weight}: nodes that the ramp does not
+     * {@link SlowStartRamp#admit(int) admit} are skipped when sampling or cycling through nodes, and least outstanding
+     * requests and power of two choices compare in-flight requests relative to the nodes' weights. Nodes re-admitted by
+     * the scoreboard are started on the ramp. The scoreboard and ramp must track the same number of nodes as the
+     * service has URIs; create a new selector with the {@link SlowStartRamp#refresh refreshed} ramp when the
+     * configuration changes, and {@link #close() close} the previous one. Slow start is not supported by
+     * {@link NodeSelectionStrategy#PIN_UNTIL_ERROR}, which sends all requests to the pinned node.
+     */
+    static NodeSelector of(
+            NodeSelectionStrategy strategy,
+            ServiceConfiguration config,
+            Optional<NodeHealthScoreboard> health,
+            SlowStartRamp slowStart) {
+        return NodeSelectors.create(strategy, config.parsedUris(), health, config.nodeTable(), Optional.of(slowStart));
+    }
+}
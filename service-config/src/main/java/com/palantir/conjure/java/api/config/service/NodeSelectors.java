@@ -0,0 +1,368 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/** Implementations of the {@link NodeSelectionStrategy strategies} backing {@link NodeSelector}. */
+final class NodeSelectors {
+
+    private NodeSelectors() {}
+
+    static NodeSelector create(
+            NodeSelectionStrategy strategy, List<ServiceUri> nodes, Optional<NodeHealthScoreboard> health) {
+        return create(strategy, nodes, health, WeightedNodeTable.uniform(nodes.size()), Optional.empty());
+    }
+
+    static NodeSelector create(
+            NodeSelectionStrategy strategy,
+            List<ServiceUri> nodes,
+            Optional<NodeHealthScoreboard> health,
+            WeightedNodeTable table,
+            Optional<SlowStartRamp> slowStart) {
+        Preconditions.checkNotNull(strategy, "strategy is required");
+        Preconditions.checkArgument(!nodes.isEmpty(), "At least one node is required");
+        health.ifPresent(scoreboard -> Preconditions.checkArgument(
+                scoreboard.nodes() == nodes.size(),
+                "Scoreboard must track the same number of nodes",
+                SafeArg.of("nodes", nodes.size()),
+                SafeArg.of("scoreboardNodes", scoreboard.nodes())));
+        Preconditions.checkArgument(
+                table.size() == nodes.size(),
+                "Node table must contain the same number of nodes",
+                SafeArg.of("nodes", nodes.size()),
+                SafeArg.of("tableNodes", table.size()));
+        slowStart.ifPresent(ramp -> Preconditions.checkArgument(
+                ramp.nodes() == nodes.size(),
+                "Slow start ramp must track the same number of nodes",
+                SafeArg.of("nodes", nodes.size()),
+                SafeArg.of("rampNodes", ramp.nodes())));
+        Preconditions.checkArgument(
+                slowStart.isEmpty() || strategy != NodeSelectionStrategy.PIN_UNTIL_ERROR,
+                "Slow start is not supported by the node selection strategy",
+                SafeArg.of("strategy", strategy));
+        List<ServiceUri> copy = List.copyOf(nodes);
+        NodeHealthScoreboard scoreboard = health.orElse(null);
+        SlowStartRamp ramp = slowStart.orElse(null);
+        switch (strategy) {
+            case ROUND_ROBIN:
+                return new RoundRobin(copy, scoreboard, ramp);
+            case PIN_UNTIL_ERROR:
+                return new PinUntilError(copy, scoreboard, ramp);
+            case LEAST_OUTSTANDING_REQUESTS:
+                return new LeastOutstandingRequests(copy, scoreboard, ramp);
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoices(copy, scoreboard, ramp);
+            case WEIGHTED_ZONE_AWARE:
+                return new WeightedZoneAware(copy, scoreboard, ramp, table);
+        }
+        throw new SafeIllegalStateException("Unknown node selection strategy", SafeArg.of("strategy", strategy));
+    }
+
+    private abstract static class AbstractNodeSelector implements NodeSelector {
+        /** Returned by {@link #choose(int)} if every node is ejected. */
+        static final int NONE = -1;
+
+        /** Bounds the nodes sampled while the ramp refuses them, after which the last refused node is used. */
+        static final int MAX_SAMPLES = 16;
+
+        private final List<ServiceUri> nodes;
+        private final PaddedAtomicIntegerArray inFlight;
+
+        // null if ejected nodes need not be avoided
+        private final NodeHealthScoreboard health;
+
+        // null if nodes need not be ramped up
+        private final SlowStartRamp ramp;
+
+        // null unless registered with the scoreboard to start the ramp of re-admitted nodes
+        private final IntConsumer readmissionListener;
+
+        AbstractNodeSelector(List<ServiceUri> nodes, NodeHealthScoreboard health, SlowStartRamp ramp) {
+            this.nodes = nodes;
+            this.inFlight = new PaddedAtomicIntegerArray(nodes.size());
+            this.health = health;
+            this.ramp = ramp;
+            if (health != null && ramp != null) {
+                this.readmissionListener = ramp::start;
+                health.addReadmissionListener(readmissionListener);
+            } else {
+                this.readmissionListener = null;
+            }
+        }
+
+        /**
+         * Chooses a node which is not ejected, in proportion to its ramp {@link #weight(int) weight}, without
+         * registering the request, or returns {@link #NONE}.
+         */
+        abstract int choose(int size);
+
+        /** Hook invoked when a request against the given node has failed. */
+        void onFailure(int _node) {}
+
+        @Override
+        public final List<ServiceUri> nodes() {
+            return nodes;
+        }
+
+        @Override
+        public final int select() {
+            int size = nodes.size();
+            int node = choose(size);
+            if (node == NONE) {
+                // Every node is ejected: trying one is better than failing the request outright.
+                node = ThreadLocalRandom.current().nextInt(size);
+            }
+            inFlight.incrementAndGet(node);
+            return node;
+        }
+
+        /** Returns true if the given node is currently ejected by the scoreboard, if any. */
+        final boolean isEjected(int node) {
+            return health != null && health.isEjected(node);
+        }
+
+        /** The ramp weight of the given node, between {@link SlowStartRamp#MIN_WEIGHT} and 1. */
+        final double weight(int node) {
+            return ramp == null ? 1 : ramp.weight(node);
+        }
+
+        /** Decides at random whether to send a request to the given node, with a probability of its ramp weight. */
+        final boolean admit(int node) {
+            return ramp == null || ramp.admit(node);
+        }
+
+        /** Returns the first node from the given one onwards which is not ejected, or {@link #NONE}. */
+        final int firstAdmitted(int start, int size) {
+            for (int i = 0; i < size; i++) {
+                int node = (start + i) % size;
+                if (!isEjected(node)) {
+                    return node;
+                }
+            }
+            return NONE;
+        }
+
+        /**
+         * Returns the least loaded node which is not ejected, breaking ties at random in proportion to the nodes' ramp
+         * weights, or {@link #NONE}.
+         */
+        final int leastLoaded(int size) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int best = NONE;
+            double tiedWeight = 0;
+            for (int node = 0; node < size; node++) {
+                if (isEjected(node)) {
+                    continue;
+                }
+                int comparison = best == NONE ? -1 : compareLoad(node, best);
+                // Weighted reservoir sampling keeps each tied node with a probability proportional to its weight.
+                if (comparison < 0) {
+                    best = node;
+                    tiedWeight = weight(node);
+                } else if (comparison == 0) {
+                    double weight = weight(node);
+                    tiedWeight += weight;
+                    if (random.nextDouble() * tiedWeight < weight) {
+                        best = node;
+                    }
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Compares the load of two nodes: the number of requests in flight relative to the ramp weight or, if tied, the
+         * {@link NodeHealthScoreboard#latencyNanos(int) latency score}, so that under load each node has requests in
+         * flight in proportion to its weight.
+         */
+        final int compareLoad(int first, int second) {
+            int comparison = Double.compare(inFlight(first) / weight(first), inFlight(second) / weight(second));
+            if (comparison != 0 || health == null) {
+                return comparison;
+            }
+            return Long.compare(health.latencyNanos(first), health.latencyNanos(second));
+        }
+
+        @Override
+        public final void complete(int node, boolean success) {
+            inFlight.decrementAndGet(node);
+            if (!success) {
+                onFailure(node);
+            }
+        }
+
+        @Override
+        public final int inFlight(int node) {
+            return inFlight.get(node);
+        }
+
+        @Override
+        public final void close() {
+            if (readmissionListener != null) {
+                health.removeReadmissionListener(readmissionListener);
+            }
+        }
+
+        @Override
+        public final String toString() {
+            return getClass().getSimpleName() + "{nodes=" + nodes + '}';
+        }
+    }
+
+    private static final class RoundRobin extends AbstractNodeSelector {
+        private final AtomicInteger next = new AtomicInteger();
+
+        RoundRobin(List<ServiceUri> nodes, NodeHealthScoreboard health, SlowStartRamp ramp) {
+            super(nodes, health, ramp);
+        }
+
+        @Override
+        int choose(int size) {
+            // Skipping ejected and refused nodes advances the cycle, so that their share is spread across all other
+            // nodes.
+            int refused = NONE;
+            for (int i = 0; i < size + MAX_SAMPLES; i++) {
+                int node = Math.floorMod(next.getAndIncrement(), size);
+                if (!isEjected(node)) {
+                    if (admit(node)) {
+                        return node;
+                    }
+                    refused = node;
+                }
+            }
+            return refused;
+        }
+    }
+
+    private static final class PinUntilError extends AbstractNodeSelector {
+        private final AtomicInteger pinned;
+
+        PinUntilError(List<ServiceUri> nodes, NodeHealthScoreboard health, SlowStartRamp ramp) {
+            super(nodes, health, ramp);
+            this.pinned = new AtomicInteger(ThreadLocalRandom.current().nextInt(nodes.size()));
+        }
+
+        @Override
+        int choose(int size) {
+            return firstAdmitted(pinned.get(), size);
+        }
+
+        @Override
+        void onFailure(int node) {
+            // Only the first of several concurrent failures against the pinned node moves the pin.
+            pinned.compareAndSet(node, (node + 1) % nodes().size());
+        }
+    }
+
+    private static final class LeastOutstandingRequests extends AbstractNodeSelector {
+        LeastOutstandingRequests(List<ServiceUri> nodes, NodeHealthScoreboard health, SlowStartRamp ramp) {
+            super(nodes, health, ramp);
+        }
+
+        @Override
+        int choose(int size) {
+            return leastLoaded(size);
+        }
+    }
+
+    private static final class PowerOfTwoChoices extends AbstractNodeSelector {
+        PowerOfTwoChoices(List<ServiceUri> nodes, NodeHealthScoreboard health, SlowStartRamp ramp) {
+            super(nodes, health, ramp);
+        }
+
+        @Override
+        int choose(int size) {
+            if (size == 1) {
+                return isEjected(0) ? NONE : 0;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = candidate(random, size, NONE);
+            int second = candidate(random, size, first);
+            boolean firstEjected = isEjected(first);
+            boolean secondEjected = isEjected(second);
+            if (firstEjected && secondEjected) {
+                return leastLoaded(size);
+            }
+            if (firstEjected || secondEjected) {
+                return firstEjected ? second : first;
+            }
+            // Keeping the first candidate on ties gives each node its weighted share when nodes are equally loaded.
+            return compareLoad(second, first) < 0 ? second : first;
+        }
+
+        /** Samples a node other than the excluded one in proportion to its ramp weight. */
+        private int candidate(ThreadLocalRandom random, int size, int excluded) {
+            int node = NONE;
+            for (int i = 0; i < MAX_SAMPLES; i++) {
+                node = excluded == NONE ? random.nextInt(size) : random.nextInt(size - 1);
+                if (excluded != NONE && node >= excluded) {
+                    node++;
+                }
+                if (admit(node)) {
+                    return node;
+                }
+            }
+            return node;
+        }
+    }
+
+    private static final class WeightedZoneAware extends AbstractNodeSelector {
+        private final WeightedNodeTable table;
+
+        WeightedZoneAware(
+                List<ServiceUri> nodes, NodeHealthScoreboard health, SlowStartRamp ramp, WeightedNodeTable table) {
+            super(nodes, health, ramp);
+            this.table = table;
+        }
+
+        @Override
+        int choose(int size) {
+            int node = sample(false);
+            if (node == NONE) {
+                // Fail over to the other zones, weighted, before falling back to the least loaded admitted node.
+                node = sample(true);
+            }
+            return node == NONE ? leastLoaded(size) : node;
+        }
+
+        /**
+         * Samples the table until it yields a node which is admitted by the ramp. Returns the last refused node if the
+         * ramp refuses them all, or {@link #NONE} if only ejected nodes were sampled.
+         */
+        private int sample(boolean anyZone) {
+            int refused = NONE;
+            for (int i = 0; i < MAX_SAMPLES; i++) {
+                int node = anyZone ? table.sampleAny() : table.sample();
+                if (!isEjected(node)) {
+                    if (admit(node)) {
+                        return node;
+                    }
+                    refused = node;
+                }
+            }
+            return refused;
+        }
+    }
+}
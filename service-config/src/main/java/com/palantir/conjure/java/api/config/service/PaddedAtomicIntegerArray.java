@@ -0,0 +1,60 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * An array of atomic ints in which each element occupies its own cache line, so that threads updating counters of
+ * different nodes do not contend through false sharing.
+ */
+final class PaddedAtomicIntegerArray {
+    // 16 ints span 64 bytes, the most common cache line size.
+    private static final int STRIDE = 16;
+
+    private final AtomicIntegerArray array;
+    private final int length;
+
+    PaddedAtomicIntegerArray(int length) {
+        // One additional stride so that the first element does not share a line with the array header.
+        this.array = new AtomicIntegerArray((length + 1) * STRIDE);
+        this.length = length;
+    }
+
+    int length() {
+        return length;
+    }
+
+    int get(int index) {
+        return array.get(offset(index));
+    }
+
+    int incrementAndGet(int index) {
+        return array.incrementAndGet(offset(index));
+    }
+
+    int decrementAndGet(int index) {
+        return array.decrementAndGet(offset(index));
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (index + 1) * STRIDE;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** Like {@link PaddedAtomicIntegerArray}, for longs. Doubles may be stored using their raw long bits. */
+final class PaddedAtomicLongArray {
+    // 8 longs span 64 bytes, the most common cache line size.
+    private static final int STRIDE = 8;
+
+    private final AtomicLongArray array;
+    private final int length;
+
+    PaddedAtomicLongArray(int length) {
+        // One additional stride so that the first element does not share a line with the array header.
+        this.array = new AtomicLongArray((length + 1) * STRIDE);
+        this.length = length;
+    }
+
+    int length() {
+        return length;
+    }
+
+    long get(int index) {
+        return array.get(offset(index));
+    }
+
+    void set(int index, long value) {
+        array.set(offset(index), value);
+    }
+
+    boolean compareAndSet(int index, long expected, long value) {
+        return array.compareAndSet(offset(index), expected, value);
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (index + 1) * STRIDE;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.logsafe.DoNotLog;
+import java.util.Optional;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * Overrides of the timeout and retry settings of a {@link PartialServiceConfiguration} for a single endpoint of the
+ * service. Absent values fall back to the settings of the service.
+ */
+@DoNotLog
+@Immutable
+@JsonSerialize(as = ImmutablePartialEndpointConfiguration.class)
+@JsonDeserialize(builder = PartialEndpointConfiguration.Builder.class)
+@ImmutablesStyle
+public interface PartialEndpointConfiguration {
+
+    /** Read timeout for requests to the endpoint. */
+    @JsonAlias("read-timeout")
+    Optional<HumanReadableDuration> readTimeout();
+
+    /** Write timeout for requests to the endpoint. */
+    @JsonAlias("write-timeout")
+    Optional<HumanReadableDuration> writeTimeout();
+
+    /** The maximum number of times a failed call to the endpoint should be retried. */
+    @JsonAlias("max-num-retries")
+    Optional<Integer> maxNumRetries();
+
+    /** The size of one backoff time slot for retries, see {@link PartialServiceConfiguration#backoffSlotSize()}. */
+    @JsonAlias("backoff-slot-size")
+    Optional<HumanReadableDuration> backoffSlotSize();
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    class Builder extends ImmutablePartialEndpointConfiguration.Builder {}
+}
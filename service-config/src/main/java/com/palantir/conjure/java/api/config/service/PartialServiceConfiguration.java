@@ -23,6 +23,7 @@ import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
 import com.palantir.logsafe.DoNotLog;
 import com.palantir.tokens.auth.BearerToken;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.immutables.value.Value;
 import org.immutables.value.Value.Immutable;
@@ -92,6 +93,93 @@ public interface PartialServiceConfiguration {
     @JsonAlias("proxy-configuration")
     Optional<ProxyConfiguration> proxyConfiguration();
 
+    /** The maximum number of pooled connections to the service across all hosts. */
+    @JsonAlias("max-connections")
+    Optional<Integer> maxConnections();
+
+    /** The maximum number of pooled connections to any single host of the service. */
+    @JsonAlias("max-connections-per-host")
+    Optional<Integer> maxConnectionsPerHost();
+
+    /** The time after which an unused pooled connection is closed. */
+    @JsonAlias("idle-connection-timeout")
+    Optional<HumanReadableDuration> idleConnectionTimeout();
+
+    /**
+     * The maximum lifetime of a pooled connection, after which it is closed once idle even if it was recently used.
+     * Bounding the lifetime lets clients pick up DNS and load balancer changes.
+     */
+    @JsonAlias("connection-time-to-live")
+    Optional<HumanReadableDuration> connectionTimeToLive();
+
+    /** The maximum number of concurrent HTTP/2 streams per connection, at least 1. */
+    @JsonAlias("http2-max-concurrent-streams")
+    Optional<Integer> http2MaxConcurrentStreams();
+
+    /** The initial HTTP/2 flow-control window of each stream in bytes, between 0 and 2^31-1. */
+    @JsonAlias("http2-initial-stream-window-size")
+    Optional<Integer> http2InitialStreamWindowSize();
+
+    /**
+     * The HTTP/2 flow-control window of each connection in bytes, between 65535 (the protocol default) and 2^31-1.
+     * Large windows are needed to saturate links with a high bandwidth-delay product.
+     */
+    @JsonAlias("http2-initial-connection-window-size")
+    Optional<Integer> http2InitialConnectionWindowSize();
+
+    /** The largest HTTP/2 frame payload in bytes which the client is willing to receive, between 2^14 and 2^24-1. */
+    @JsonAlias("http2-max-frame-size")
+    Optional<Integer> http2MaxFrameSize();
+
+    /**
+     * Per-endpoint overrides of the timeout and retry settings, keyed by endpoint name. Endpoints without an entry
+     * use the settings of the service.
+     */
+    Map<String, PartialEndpointConfiguration> endpoints();
+
+    /** Hedging settings for idempotent requests. If absent, requests are not hedged. */
+    Optional<HedgingConfiguration> hedging();
+
+    /** The algorithm with which to compress request bodies. If absent, requests are not compressed. */
+    @JsonAlias("request-compression")
+    Optional<CompressionAlgorithm> requestCompression();
+
+    /** The algorithms the service may use to compress response bodies, in order of preference. */
+    @JsonAlias("accept-compression")
+    List<CompressionAlgorithm> acceptCompression();
+
+    /** Request bodies smaller than this number of bytes are not compressed, as compression would not pay off. */
+    @JsonAlias("request-compression-min-size")
+    Optional<Integer> requestCompressionMinSize();
+
+    /**
+     * Service URIs with {@link UriConfiguration#zone() zone} and {@link UriConfiguration#weight() weight} metadata. Used
+     * in addition to the plain {@link #uris()}, which behave like structured URIs of weight 1 without a zone.
+     */
+    @JsonAlias("structured-uris")
+    List<UriConfiguration> structuredUris();
+
+    /**
+     * The period over which traffic to a newly added or re-admitted URI is ramped up to its full share, see
+     * {@link SlowStartRamp}. Disabled if absent or zero.
+     */
+    @JsonAlias("slow-start-window")
+    Optional<HumanReadableDuration> slowStartWindow();
+
+    /** Isolation settings for calls to the service, see {@link Bulkhead}. If absent, calls are not isolated. */
+    Optional<BulkheadConfiguration> bulkhead();
+
+    /** Settings for caching responses of the service, see {@link ResponseCache}. If absent, responses are not cached. */
+    @JsonAlias("response-cache")
+    Optional<ResponseCacheConfiguration> responseCache();
+
+    /**
+     * The number of retries allowed per successful call across all clients of the service in this process, between 0
+     * and 1, see {@link RetryBudget}. Defaults to {@value RetryBudget#DEFAULT_RATIO}.
+     */
+    @JsonAlias("retry-budget-ratio")
+    Optional<Double> retryBudgetRatio();
+
     static PartialServiceConfiguration of(List<String> uris, Optional<SslConfiguration> sslConfig) {
         return PartialServiceConfiguration.builder()
                 .uris(uris)
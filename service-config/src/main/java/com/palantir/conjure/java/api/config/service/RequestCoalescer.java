@@ -0,0 +1,176 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.conjure.java.api.errors.RemoteException;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.exceptions.SafeNullPointerException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical calls into a single in-flight call ("single flight"): while a call for a given service
+ * and request key is in flight, further calls with the same key do not reach the service but share its outcome. For
+ * example, when 200 threads miss a cache for the same entity, the backend is asked once.
+ *
+ * <p>Each caller receives its own future, so cancelling one does not affect the others, but all of them complete with
+ * the same value or, on failure, the same exception instance, e.g. the same {@link RemoteException}. Once the shared
+ * call completes, the next call with the same key reaches the service again; results are not cached.
+ *
+ * <p>Calls are scoped by service name, so that equal request keys of different services are never coalesced. At most
+ * the configured number of keys are tracked per service; calls with new keys beyond that bound are executed without
+ * coalescing rather than blocked.
+ */
+public final class RequestCoalescer {
+
+    private final Map<String, InFlight> services;
+    private final LongAdder coalesced = new LongAdder();
+
+    private RequestCoalescer(Map<String, InFlight> services) {
+        this.services = services;
+    }
+
+    /** Creates a coalescer for the services of the given block, tracking up to {@code maxKeys} keys per service. */
+    public static RequestCoalescer of(ServicesConfigBlock services, int maxKeys) {
+        Preconditions.checkArgument(maxKeys > 0, "maxKeys must be positive", SafeArg.of("maxKeys", maxKeys));
+        Map<String, InFlight> inFlight = new HashMap<>();
+        for (String serviceName : services.services().keySet()) {
+            inFlight.put(serviceName, new InFlight(maxKeys));
+        }
+        return new RequestCoalescer(Map.copyOf(inFlight));
+    }
+
+    /**
+     * Returns the outcome of the call in flight for the given service and request key, or starts the given call if
+     * there is none. Request keys must implement {@link Object#equals(Object)} and {@link Object#hashCode()}, and
+     * calls with equal keys must be interchangeable.
+     */
+    public <T> CompletableFuture<T> execute(
+            String serviceName, Object requestKey, Supplier<CompletableFuture<T>> call) {
+        InFlight inFlight = services.get(serviceName);
+        if (inFlight == null) {
+            throw new SafeIllegalArgumentException("Unknown service", SafeArg.of("serviceName", serviceName));
+        }
+        Preconditions.checkNotNull(requestKey, "requestKey is required");
+        CompletableFuture<?> existing = inFlight.calls.get(requestKey);
+        if (existing != null) {
+            coalesced.increment();
+            return copy(existing);
+        }
+        if (!inFlight.tryReserve()) {
+            return start(call);
+        }
+        CompletableFuture<T> placeholder = new CompletableFuture<>();
+        existing = inFlight.calls.putIfAbsent(requestKey, placeholder);
+        if (existing != null) {
+            // lost the race against a concurrent call with the same key
+            inFlight.size.decrementAndGet();
+            coalesced.increment();
+            return copy(existing);
+        }
+        CompletableFuture<T> future;
+        try {
+            future = start(call);
+        } catch (Throwable t) {
+            // an error thrown by the call, which must not leave its placeholder registered
+            inFlight.finish(requestKey, placeholder, null, t);
+            throw t;
+        }
+        future.whenComplete((result, failure) -> inFlight.finish(requestKey, placeholder, result, failure));
+        return placeholder.copy();
+    }
+
+    /** The number of calls of the given service currently in flight and open to coalescing. */
+    public int inFlight(String serviceName) {
+        InFlight inFlight = services.get(serviceName);
+        return inFlight == null ? 0 : inFlight.size.get();
+    }
+
+    /** The total number of calls which shared the outcome of another call rather than reaching their service. */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<T> copy(CompletableFuture<?> shared) {
+        return ((CompletableFuture<T>) shared).copy();
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * Starts the given call, turning runtime exceptions and a null future into a failed future. Errors propagate to
+     * the caller.
+     */
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (future == null) {
+            return CompletableFuture.failedFuture(new SafeNullPointerException("Call returned a null future"));
+        }
+        return future;
+    }
+
+    private static final class InFlight {
+        private final int maxKeys;
+        private final Map<Object, CompletableFuture<?>> calls = new ConcurrentHashMap<>();
+
+        // tracked separately since ConcurrentHashMap#size is not constant time
+        private final AtomicInteger size = new AtomicInteger();
+
+        InFlight(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+
+        /** Stops coalescing on the given call and completes it with the given outcome. */
+        <T> void finish(Object requestKey, CompletableFuture<T> placeholder, T result, Throwable failure) {
+            // stop coalescing before completing, so that callers reacting to the outcome start a fresh call
+            calls.remove(requestKey, placeholder);
+            size.decrementAndGet();
+            if (failure != null) {
+                placeholder.completeExceptionally(unwrap(failure));
+            } else {
+                placeholder.complete(result);
+            }
+        }
+
+        boolean tryReserve() {
+            int current;
+            do {
+                current = size.get();
+                if (current >= maxKeys) {
+                    return false;
+                }
+            } while (!size.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An in-process cache of response bodies keyed by endpoint name and request arguments, configured by a
+ * {@link ResponseCacheConfiguration}.
+ *
+ * <p>Cached responses are served for the configured {@link ResponseCacheConfiguration#ttl() TTL}. After that, they
+ * are served for the {@link ResponseCacheConfiguration#staleWhileRevalidate() stale-while-revalidate} period while a
+ * single background load refreshes them, and then discarded.
+ *
+ * <p>The cache is bounded by the number of entries and, optionally, the total size of the response bodies. Eviction
+ * follows W-TinyLFU: new entries enter a small LRU window; entries leaving the window compete for admission to the
+ * main space, segmented into a probationary and a protected LRU queue, against the main space's eviction victim, and
+ * the entry accessed less frequently according to a {@link FrequencySketch} is evicted. This keeps frequently used
+ * reference data cached in the face of scans of one-off requests.
+ *
+ * <p>Lookups are lock-free. Bookkeeping of accesses happens under a lock which lookups only try to acquire, so under
+ * contention some accesses go unrecorded rather than serializing readers. With
+ * {@link ResponseCacheConfiguration#offHeap() off-heap storage}, bodies are copied into direct buffers, which are
+ * freed once evicted entries are no longer referenced.
+ */
+public final class ResponseCache {
+
+    /** The share of the maximum number of entries reserved for the admission window. */
+    private static final double WINDOW_RATIO = 0.01;
+
+    /** The share of the main space reserved for entries accessed again after admission. */
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final boolean offHeap;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<Key, Node> entries = new ConcurrentHashMap<>();
+
+    // guarded by policyLock
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final Queue window = new Queue();
+    private final Queue probation = new Queue();
+    private final Queue protectedQueue = new Queue();
+    private final int maxWindow;
+    private final int maxProtected;
+    private long bytes;
+
+    // visible for testing
+    ResponseCache(ResponseCacheConfiguration config, LongSupplier nanoClock) {
+        this.maxEntries = config.maxEntries();
+        this.maxBytes = config.maxBytes().orElse(Long.MAX_VALUE);
+        this.ttlNanos = config.ttl().toJavaDuration().toNanos();
+        this.staleNanos = config.staleWhileRevalidate()
+                .map(duration -> duration.toJavaDuration().toNanos())
+                .orElse(0L);
+        this.offHeap = config.offHeap();
+        this.nanoClock = nanoClock;
+        this.sketch = new FrequencySketch(maxEntries);
+        this.maxWindow = Math.max(1, (int) (maxEntries * WINDOW_RATIO));
+        this.maxProtected = (int) ((maxEntries - maxWindow) * PROTECTED_RATIO);
+    }
+
+    public static ResponseCache of(ResponseCacheConfiguration config) {
+        return new ResponseCache(config, System::nanoTime);
+    }
+
+    /**
+     * Returns a read-only view of the cached response of the given endpoint for the given arguments if it is fresh,
+     * i.e. within its TTL. Request arguments must implement {@link Object#equals(Object)} and
+     * {@link Object#hashCode()}.
+     */
+    public Optional<ByteBuffer> getIfPresent(String endpoint, Object arguments) {
+        Node node = lookup(new Key(endpoint, arguments));
+        return node != null && !node.isStale(nanoClock.getAsLong()) ? Optional.of(node.body()) : Optional.empty();
+    }
+
+    /**
+     * Returns the cached response of the given endpoint for the given arguments if it is fresh. If it is stale, returns
+     * the stale response and refreshes it in the background using the given loader, unless a refresh is already in
+     * progress. Otherwise loads the response using the given loader and caches it once loaded. Failed loads are not
+     * cached.
+     */
+    public CompletableFuture<ByteBuffer> get(
+            String endpoint, Object arguments, Supplier<CompletableFuture<ByteBuffer>> loader) {
+        Key key = new Key(endpoint, arguments);
+        Node node = lookup(key);
+        if (node != null) {
+            if (node.isStale(nanoClock.getAsLong()) && node.refreshing.compareAndSet(false, true)) {
+                load(key, loader).whenComplete((_body, _failure) -> node.refreshing.set(false));
+            }
+            return CompletableFuture.completedFuture(node.body());
+        }
+        return load(key, loader).thenApply(ByteBuffer::asReadOnlyBuffer);
+    }
+
+    /**
+     * Caches a copy of the remaining bytes of the given response body, without changing its position. Bodies larger
+     * than the maximum number of bytes are not cached.
+     */
+    public void put(String endpoint, Object arguments, ByteBuffer body) {
+        store(new Key(endpoint, arguments), body);
+    }
+
+    /** Discards the cached response of the given endpoint for the given arguments, if any. */
+    public void invalidate(String endpoint, Object arguments) {
+        Node node = entries.remove(new Key(endpoint, arguments));
+        if (node != null) {
+            policyLock.lock();
+            try {
+                unlink(node);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    /** Discards all cached responses. */
+    public void invalidateAll() {
+        policyLock.lock();
+        try {
+            entries.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+            bytes = 0;
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    /** The number of cached responses. */
+    public int size() {
+        return entries.size();
+    }
+
+    /** The total size of the cached response bodies in bytes. */
+    public long bytes() {
+        policyLock.lock();
+        try {
+            return bytes;
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private CompletableFuture<ByteBuffer> load(Key key, Supplier<CompletableFuture<ByteBuffer>> loader) {
+        CompletableFuture<ByteBuffer> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return loaded.thenApply(body -> {
+            store(key, body);
+            return body.duplicate();
+        });
+    }
+
+    /** Returns the node of the given key unless it has expired, recording the access if the lock is free. */
+    private Node lookup(Key key) {
+        Node node = entries.get(key);
+        if (node == null) {
+            recordMiss(key);
+            return null;
+        }
+        if (node.isExpired(nanoClock.getAsLong())) {
+            if (entries.remove(key, node)) {
+                policyLock.lock();
+                try {
+                    unlink(node);
+                } finally {
+                    policyLock.unlock();
+                }
+            }
+            return null;
+        }
+        if (policyLock.tryLock()) {
+            try {
+                onHit(node);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+        return node;
+    }
+
+    private void recordMiss(Key key) {
+        if (policyLock.tryLock()) {
+            try {
+                sketch.increment(key);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    private void store(Key key, ByteBuffer body) {
+        Preconditions.checkNotNull(body, "body is required");
+        int weight = body.remaining();
+        if (weight > maxBytes) {
+            invalidate(key.endpoint, key.arguments);
+            return;
+        }
+        ByteBuffer copy = offHeap ? ByteBuffer.allocateDirect(weight) : ByteBuffer.allocate(weight);
+        copy.put(body.duplicate()).flip();
+        long now = nanoClock.getAsLong();
+        Node node = new Node(key, copy, now + ttlNanos, now + ttlNanos + staleNanos);
+
+        policyLock.lock();
+        try {
+            Node previous = entries.put(key, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            sketch.increment(key);
+            window.addFirst(node, Segment.WINDOW);
+            bytes += weight;
+            evict();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void onHit(Node node) {
+        sketch.increment(node.key);
+        switch (node.segment) {
+            case WINDOW:
+                window.moveToFront(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                protectedQueue.addFirst(node, Segment.PROTECTED);
+                while (protectedQueue.size > maxProtected) {
+                    Node demoted = protectedQueue.removeLast();
+                    probation.addFirst(demoted, Segment.PROBATION);
+                }
+                break;
+            case PROTECTED:
+                protectedQueue.moveToFront(node);
+                break;
+            case REMOVED:
+                break;
+        }
+    }
+
+    /**
+     * Moves entries overflowing the window to the probationary queue, then evicts until within bounds, each time
+     * evicting the less frequently used of the most recent admission candidate and the probationary LRU victim.
+     */
+    private void evict() {
+        Node candidate = null;
+        while (window.size > maxWindow) {
+            candidate = window.removeLast();
+            probation.addFirst(candidate, Segment.PROBATION);
+        }
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            Node victim = victim(candidate);
+            if (victim == null) {
+                return;
+            }
+            if (victim == candidate) {
+                candidate = null;
+            }
+            entries.remove(victim.key, victim);
+            unlink(victim);
+        }
+    }
+
+    private Node victim(Node candidate) {
+        Node victim = probation.last();
+        if (victim == null) {
+            return protectedQueue.last() != null ? protectedQueue.last() : window.last();
+        }
+        if (candidate != null
+                && candidate.segment == Segment.PROBATION
+                && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+            return candidate;
+        }
+        return victim;
+    }
+
+    private void unlink(Node node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.remove(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            case PROTECTED:
+                protectedQueue.remove(node);
+                break;
+            case REMOVED:
+                return;
+        }
+        node.segment = Segment.REMOVED;
+        bytes -= node.weight;
+    }
+
+    private static final class Key {
+        private final String endpoint;
+        private final Object arguments;
+        private final int hashCode;
+
+        Key(String endpoint, Object arguments) {
+            this.endpoint = Preconditions.checkNotNull(endpoint, "endpoint is required");
+            this.arguments = arguments;
+            this.hashCode = 31 * endpoint.hashCode() + Objects.hashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other
+                    || (other instanceof Key
+                            && hashCode == ((Key) other).hashCode
+                            && endpoint.equals(((Key) other).endpoint)
+                            && Objects.equals(arguments, ((Key) other).arguments));
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private enum Segment {
+        WINDOW,
+        PROBATION,
+        PROTECTED,
+        REMOVED,
+    }
+
+    private static final class Node {
+        private final Key key;
+        private final ByteBuffer body;
+        private final int weight;
+        private final long freshUntil;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        // guarded by policyLock
+        private Segment segment = Segment.REMOVED;
+        private Node prev;
+        private Node next;
+
+        Node(Key key, ByteBuffer body, long freshUntil, long expiresAt) {
+            this.key = key;
+            this.body = body;
+            this.weight = body.remaining();
+            this.freshUntil = freshUntil;
+            this.expiresAt = expiresAt;
+        }
+
+        ByteBuffer body() {
+            return body.asReadOnlyBuffer();
+        }
+
+        boolean isStale(long now) {
+            return now - freshUntil >= 0;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /** An intrusive doubly linked LRU queue, most recently used first. Guarded by the policy lock. */
+    private static final class Queue {
+        private Node head;
+        private Node tail;
+        private int size;
+
+        void addFirst(Node node, Segment segment) {
+            node.segment = segment;
+            node.prev = null;
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            } else {
+                tail = node;
+            }
+            head = node;
+            size++;
+        }
+
+        void moveToFront(Node node) {
+            if (head != node) {
+                Segment segment = node.segment;
+                remove(node);
+                addFirst(node, segment);
+            }
+        }
+
+        Node last() {
+            return tail;
+        }
+
+        Node removeLast() {
+            Node node = tail;
+            remove(node);
+            return node;
+        }
+
+        void remove(Node node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            } else {
+                tail = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        /**
+         * Removes all nodes, marking each as removed so that a concurrent lookup which already holds one of them does
+         * not relink it into, or unlink it from, this queue.
+         */
+        void clear() {
+            Node node = head;
+            while (node != null) {
+                Node next = node.next;
+                node.segment = Segment.REMOVED;
+                node.prev = null;
+                node.next = null;
+                node = next;
+            }
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+}
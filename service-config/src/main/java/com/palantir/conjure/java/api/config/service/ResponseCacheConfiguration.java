@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.logsafe.DoNotLog;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.time.Duration;
+import java.util.Optional;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * Configures an in-process cache of the service's responses, see {@link ResponseCache}. Caching must only be used for
+ * endpoints whose responses may be served stale for up to {@link #ttl()} plus {@link #staleWhileRevalidate()}.
+ */
+@DoNotLog
+@Immutable
+@JsonSerialize(as = ImmutableResponseCacheConfiguration.class)
+@JsonDeserialize(builder = ResponseCacheConfiguration.Builder.class)
+@ImmutablesStyle
+public abstract class ResponseCacheConfiguration {
+
+    /** The maximum number of cached responses. Defaults to 10000. */
+    @Value.Default
+    @SuppressWarnings("checkstyle:designforextension")
+    @JsonProperty("maxEntries")
+    @JsonAlias("max-entries")
+    public int maxEntries() {
+        return 10_000;
+    }
+
+    /** The maximum total size of the cached response bodies in bytes. Unbounded if absent. */
+    @JsonAlias("max-bytes")
+    public abstract Optional<Long> maxBytes();
+
+    /** The time for which a cached response is served without asking the service again. */
+    public abstract HumanReadableDuration ttl();
+
+    /**
+     * The time after {@link #ttl()} for which a stale response is still served while it is refreshed in the
+     * background. Stale responses are not served if absent.
+     */
+    @JsonAlias("stale-while-revalidate")
+    public abstract Optional<HumanReadableDuration> staleWhileRevalidate();
+
+    /**
+     * Whether response bodies are stored in direct (off-heap) buffers, which keeps large cached payloads out of the
+     * garbage-collected heap. Defaults to false.
+     */
+    @Value.Default
+    @SuppressWarnings("checkstyle:designforextension")
+    @JsonProperty("offHeap")
+    @JsonAlias("off-heap")
+    public boolean offHeap() {
+        return false;
+    }
+
+    @Value.Check
+    protected final void check() {
+        Preconditions.checkArgument(
+                maxEntries() > 0, "max-entries must be positive", SafeArg.of("maxEntries", maxEntries()));
+        maxBytes()
+                .ifPresent(maxBytes -> Preconditions.checkArgument(
+                        maxBytes > 0, "max-bytes must be positive", SafeArg.of("maxBytes", maxBytes)));
+        Preconditions.checkArgument(
+                ttl().toJavaDuration().compareTo(Duration.ZERO) > 0, "ttl must be positive", SafeArg.of("ttl", ttl()));
+    }
+
+    public static ResponseCacheConfiguration of(HumanReadableDuration ttl) {
+        return builder().ttl(ttl).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder extends ImmutableResponseCacheConfiguration.Builder {}
+}
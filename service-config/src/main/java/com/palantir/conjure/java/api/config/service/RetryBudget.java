@@ -0,0 +1,115 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide budget for retrying calls to a service, shared by all of its clients, which keeps retries from
+ * multiplying the load on a struggling service by {@link ServiceConfiguration#maxNumRetries()}.
+ *
+ * <p>The budget is a token bucket: every successful call earns {@link ServiceConfiguration#retryBudgetRatio()} of a
+ * token, up to a burst of {@value #MAX_BURST} tokens, and every retry spends one token. Retries are refused while less
+ * than one token is available, so during an outage retries quickly stop, and they resume as calls succeed again. The
+ * bucket starts full. Updates are lock-free.
+ *
+ * <p>The {@link #retryCount() granted} and {@link #refusedCount() refused} retries are counted so that clients can
+ * publish them as metrics.
+ */
+public final class RetryBudget {
+
+    /** The ratio of retries to successful calls used if the service does not configure one. */
+    public static final double DEFAULT_RATIO = 0.1;
+
+    private static final long TOKEN = 1000;
+    private static final int MAX_BURST = 10;
+    private static final ConcurrentMap<String, RetryBudget> BUDGETS = new ConcurrentHashMap<>();
+
+    private final AtomicLong balance = new AtomicLong(MAX_BURST * TOKEN);
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong refusals = new AtomicLong();
+    private volatile long earnedPerSuccess;
+
+    // visible for testing
+    RetryBudget(double ratio) {
+        setRatio(ratio);
+    }
+
+    /**
+     * Returns the budget shared by all clients of the service of the given name in this process, creating it on first
+     * use. Its ratio is updated to that of the given configuration, so that reloaded configuration takes effect.
+     */
+    public static RetryBudget forService(String serviceName, ServiceConfiguration config) {
+        Preconditions.checkNotNull(serviceName, "serviceName is required");
+        double ratio = config.retryBudgetRatio().orElse(DEFAULT_RATIO);
+        RetryBudget budget = BUDGETS.computeIfAbsent(serviceName, _name -> new RetryBudget(ratio));
+        budget.setRatio(ratio);
+        return budget;
+    }
+
+    /** Records a successful call, earning part of a token. */
+    public void recordSuccess() {
+        long max = MAX_BURST * TOKEN;
+        long earned = earnedPerSuccess;
+        long current;
+        do {
+            current = balance.get();
+            if (current >= max || earned == 0) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(max, current + earned)));
+    }
+
+    /** Returns true and spends a token if a retry is allowed, otherwise records the refusal and returns false. */
+    public boolean tryRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                refusals.incrementAndGet();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        retries.incrementAndGet();
+        return true;
+    }
+
+    /** The number of tokens currently available, i.e. of retries which would currently be allowed. */
+    public double availableTokens() {
+        return (double) balance.get() / TOKEN;
+    }
+
+    /** The number of retries allowed so far. */
+    public long retryCount() {
+        return retries.get();
+    }
+
+    /** The number of retries refused so far because the budget was exhausted. */
+    public long refusedCount() {
+        return refusals.get();
+    }
+
+    private void setRatio(double ratio) {
+        Preconditions.checkArgument(
+                ratio >= 0 && ratio <= 1, "ratio must be between 0 and 1", SafeArg.of("ratio", ratio));
+        earnedPerSuccess = Math.round(ratio * TOKEN);
+    }
+}
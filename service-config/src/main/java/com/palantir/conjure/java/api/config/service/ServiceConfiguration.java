@@ -16,12 +16,14 @@
 
 package com.palantir.conjure.java.api.config.service;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
 import com.palantir.logsafe.DoNotLog;
 import com.palantir.tokens.auth.BearerToken;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.immutables.value.Value;
 
@@ -37,8 +39,20 @@ public interface ServiceConfiguration {
 
     SslConfiguration security();
 
+    /** All service URIs: the plain URIs followed by the {@link #structuredUris() structured} ones. */
     List<String> uris();
 
+    /**
+     * The {@link #uris()} in pre-parsed form and in the same order. Parsed once on first access, and eagerly validated
+     * for configurations produced by {@link ServiceConfigurationFactory}, so that this never throws for those.
+     * Scheme-less URIs are parsed with an empty {@link ServiceUri#scheme() scheme}.
+     */
+    @JsonIgnore
+    @Value.Lazy
+    default List<ServiceUri> parsedUris() {
+        return uris().stream().map(ServiceUri::fromString).toList();
+    }
+
     Optional<Duration> connectTimeout();
 
     Optional<Duration> readTimeout();
@@ -57,6 +71,140 @@ public interface ServiceConfiguration {
 
     Optional<ProxyConfiguration> proxy();
 
+    Optional<Integer> maxConnections();
+
+    Optional<Integer> maxConnectionsPerHost();
+
+    Optional<Duration> idleConnectionTimeout();
+
+    Optional<Duration> connectionTimeToLive();
+
+    Optional<Integer> http2MaxConcurrentStreams();
+
+    Optional<Integer> http2InitialStreamWindowSize();
+
+    Optional<Integer> http2InitialConnectionWindowSize();
+
+    Optional<Integer> http2MaxFrameSize();
+
+    /**
+     * The resolved settings of endpoints which override the service's timeouts or retries, keyed by endpoint name. Use
+     * {@link #endpoint(String)} to look up the settings of any endpoint.
+     */
+    Map<String, EndpointConfiguration> endpoints();
+
+    Optional<HedgingConfiguration> hedging();
+
+    Optional<CompressionAlgorithm> requestCompression();
+
+    List<CompressionAlgorithm> acceptCompression();
+
+    Optional<Integer> requestCompressionMinSize();
+
+    /** The structured URIs, which are also contained in {@link #uris()}. */
+    List<UriConfiguration> structuredUris();
+
+    /** See {@link ServicesConfigBlock#localZone()}. */
+    Optional<String> localZone();
+
+    Optional<Duration> slowStartWindow();
+
+    Optional<BulkheadConfiguration> bulkhead();
+
+    Optional<ResponseCacheConfiguration> responseCache();
+
+    Optional<Double> retryBudgetRatio();
+
+    /**
+     * A precomputed table for sampling {@link #uris()} by weight and locality, built once on first access. See
+     * {@link NodeSelectionStrategy#WEIGHTED_ZONE_AWARE}.
+     */
+    @JsonIgnore
+    @Value.Lazy
+    default WeightedNodeTable nodeTable() {
+        return WeightedNodeTable.of(this);
+    }
+
+    /**
+     * Orders snapshots of configuration: each configuration resolved by a {@link ServiceConfigurationFactory} is
+     * stamped with a process-wide generation greater than that of any configuration resolved before it, and 0 unless
+     * set otherwise. Not part of {@link #equals(Object)}.
+     *
+     * <p>The generation increases with every resolution, even if the resolved configuration is identical to the
+     * previous one, so it is not a change token on its own: use {@link #contentHash()} to detect whether a
+     * configuration has actually changed, and the generation to tell which of two changed configurations is newer.
+     */
+    @JsonIgnore
+    @Value.Auxiliary
+    @Value.Default
+    default long generation() {
+        return 0;
+    }
+
+    /**
+     * A 64-bit hash of all other attributes, computed once on first access and eagerly for configurations produced by
+     * {@link ServiceConfigurationFactory}. Equal configurations have equal hashes, so components built from a
+     * configuration can check whether it is still current by comparing hashes rather than deep equality.
+     */
+    @JsonIgnore
+    @Value.Lazy
+    default long contentHash() {
+        // must include every attribute, see ServiceConfigurationFactoryTests#testContentHashCoversAllAttributes
+        return ContentHash.of(
+                apiToken(),
+                security(),
+                uris(),
+                connectTimeout(),
+                readTimeout(),
+                writeTimeout(),
+                maxNumRetries(),
+                backoffSlotSize(),
+                enableGcmCipherSuites(),
+                enableHttp2(),
+                fallbackToCommonNameVerification(),
+                proxy(),
+                maxConnections(),
+                maxConnectionsPerHost(),
+                idleConnectionTimeout(),
+                connectionTimeToLive(),
+                http2MaxConcurrentStreams(),
+                http2InitialStreamWindowSize(),
+                http2InitialConnectionWindowSize(),
+                http2MaxFrameSize(),
+                endpoints(),
+                hedging(),
+                requestCompression(),
+                acceptCompression(),
+                requestCompressionMinSize(),
+                structuredUris(),
+                localZone(),
+                slowStartWindow(),
+                bulkhead(),
+                responseCache(),
+                retryBudgetRatio());
+    }
+
+    /**
+     * Returns the timeout and retry settings for the endpoint of the given name: the resolved overrides from
+     * {@link #endpoints()} if present, otherwise the settings of the service. Performs a single hash lookup.
+     */
+    default EndpointConfiguration endpoint(String endpointName) {
+        EndpointConfiguration endpoint = endpoints().get(endpointName);
+        return endpoint != null ? endpoint : serviceEndpoint();
+    }
+
+    /** The service-wide timeout and retry settings, shared by all endpoints without overrides. */
+    @JsonIgnore
+    @Value.Lazy
+    default EndpointConfiguration serviceEndpoint() {
+        return EndpointConfiguration.builder()
+                .readTimeout(readTimeout())
+                .writeTimeout(writeTimeout())
+                .maxNumRetries(maxNumRetries())
+                .backoffSlotSize(backoffSlotSize())
+                .build();
+    }
+
     static ImmutableServiceConfiguration.Builder builder() {
         return new Builder();
     }
@@ -16,17 +16,36 @@
 
 package com.palantir.conjure.java.api.config.service;
 
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 /** Given a {@link ServicesConfigBlock}, populates {@link ServiceConfiguration} instances for configured services. */
 public final class ServiceConfigurationFactory {
 
+    // Legal ranges of HTTP/2 settings, see RFC 9113 section 6.5.2
+    private static final int HTTP2_DEFAULT_WINDOW_SIZE = 65_535;
+    private static final int HTTP2_MIN_FRAME_SIZE = 1 << 14;
+    private static final int HTTP2_MAX_FRAME_SIZE = (1 << 24) - 1;
+
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
     private final ServicesConfigBlock services;
 
     private ServiceConfigurationFactory(ServicesConfigBlock services) {
@@ -54,13 +73,55 @@ public final class ServiceConfigurationFactory {
         return config;
     }
 
+    /**
+     * Like {@link #getAll()}, but reports every invalid service at once instead of failing on the first one, so that
+     * all mistakes in a configuration can be fixed before the next restart. Services are resolved in parallel on the
+     * common {@link ForkJoinPool}, and the trust and key store files of each service are checked to be readable.
+     *
+     * @throws SafeIllegalArgumentException if any service is invalid, with the failure of each invalid service attached
+     *     as a {@link Throwable#getSuppressed() suppressed} exception
+     */
+    public Map<String, ServiceConfiguration> validateAll() {
+        return validateAll(ForkJoinPool.commonPool());
+    }
+
+    /** Like {@link #validateAll()}, resolving services on the given pool. */
+    public Map<String, ServiceConfiguration> validateAll(ForkJoinPool pool) {
+        Map<String, ServiceConfiguration> config = new ConcurrentHashMap<>();
+        SortedMap<String, RuntimeException> failures = new ConcurrentSkipListMap<>();
+        // Services commonly share the default security block, so check each store file once.
+        Map<Path, Boolean> readable = new ConcurrentHashMap<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(services.services().size());
+        services.services()
+                .forEach((serviceName, partial) -> tasks.add(pool.submit(() -> {
+                    try {
+                        ServiceConfiguration configuration = propagateDefaults(serviceName, partial);
+                        checkStores(serviceName, configuration.security(), readable);
+                        config.put(serviceName, configuration);
+                    } catch (RuntimeException e) {
+                        failures.put(serviceName, e);
+                    }
+                })));
+        tasks.forEach(ForkJoinTask::join);
+        if (!failures.isEmpty()) {
+            SafeIllegalArgumentException exception = new SafeIllegalArgumentException(
+                    "Invalid configuration for services", SafeArg.of("serviceNames", List.copyOf(failures.keySet())));
+            failures.values().forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return new HashMap<>(config);
+    }
+
     /**
      * Checks if a service is enabled, i.e., if the configured {@link #services} contains a service configuration of the
-     * given name, and the configuration has at least one {@link PartialServiceConfiguration#uris() URI}.
+     * given name, and the configuration has at least one {@link PartialServiceConfiguration#uris() URI} or
+     * {@link PartialServiceConfiguration#structuredUris() structured URI}.
      */
     public boolean isEnabled(String serviceName) {
         PartialServiceConfiguration serviceConfig = services.services().get(serviceName);
-        return serviceConfig != null && !serviceConfig.uris().isEmpty();
+        return serviceConfig != null
+                && (!serviceConfig.uris().isEmpty()
+                        || !serviceConfig.structuredUris().isEmpty());
     }
 
     /**
@@ -69,28 +130,181 @@ public final class ServiceConfigurationFactory {
      * {@link ServicesConfigBlock}.
      */
     private ServiceConfiguration propagateDefaults(String serviceName, PartialServiceConfiguration partial) {
-        return ServiceConfiguration.builder()
+        Optional<Duration> readTimeout = orElse(partial.readTimeout(), services.defaultReadTimeout())
+                .map(ServiceConfigurationFactory::toDuration);
+        Optional<Duration> writeTimeout = orElse(partial.writeTimeout(), services.defaultWriteTimeout())
+                .map(ServiceConfigurationFactory::toDuration);
+        Optional<Duration> backoffSlotSize = orElse(partial.backoffSlotSize(), services.defaultBackoffSlotSize())
+                .map(ServiceConfigurationFactory::toDuration);
+        ServiceConfiguration configuration = ServiceConfiguration.builder()
                 .apiToken(orElse(partial.apiToken(), services.defaultApiToken()))
                 .security(orElse(partial.security(), services.defaultSecurity())
                         .orElseThrow(() -> new SafeIllegalArgumentException(
                                 "Must provide default security or service-specific security block for service",
                                 SafeArg.of("serviceName", serviceName))))
                 .uris(partial.uris())
+                .addAllUris(partial.structuredUris().stream()
+                        .map(UriConfiguration::uri)
+                        .toList())
                 .connectTimeout(orElse(partial.connectTimeout(), services.defaultConnectTimeout())
-                        .map(t -> Duration.ofMillis(t.toMilliseconds())))
-                .readTimeout(orElse(partial.readTimeout(), services.defaultReadTimeout())
-                        .map(t -> Duration.ofMillis(t.toMilliseconds())))
-                .writeTimeout(orElse(partial.writeTimeout(), services.defaultWriteTimeout())
-                        .map(t -> Duration.ofMillis(t.toMilliseconds())))
+                        .map(ServiceConfigurationFactory::toDuration))
+                .readTimeout(readTimeout)
+                .writeTimeout(writeTimeout)
                 .maxNumRetries(partial.maxNumRetries())
-                .backoffSlotSize(orElse(partial.backoffSlotSize(), services.defaultBackoffSlotSize())
-                        .map(t -> Duration.ofMillis(t.toMilliseconds())))
+                .backoffSlotSize(backoffSlotSize)
                 .proxy(orElse(partial.proxyConfiguration(), services.defaultProxyConfiguration()))
                 .enableGcmCipherSuites(orElse(partial.enableGcmCipherSuites(), services.defaultEnableGcmCipherSuites()))
                 .enableHttp2(orElse(partial.enableHttp2(), services.defaultEnableHttp2()))
                 .fallbackToCommonNameVerification(orElse(
                         partial.fallbackToCommonNameVerification(), services.defaultFallbackToCommonNameVerification()))
+                .maxConnections(orElse(partial.maxConnections(), services.defaultMaxConnections()))
+                .maxConnectionsPerHost(orElse(partial.maxConnectionsPerHost(), services.defaultMaxConnectionsPerHost()))
+                .idleConnectionTimeout(orElse(partial.idleConnectionTimeout(), services.defaultIdleConnectionTimeout())
+                        .map(ServiceConfigurationFactory::toDuration))
+                .connectionTimeToLive(orElse(partial.connectionTimeToLive(), services.defaultConnectionTimeToLive())
+                        .map(ServiceConfigurationFactory::toDuration))
+                .http2MaxConcurrentStreams(checkRange(
+                        serviceName,
+                        "http2MaxConcurrentStreams",
+                        orElse(partial.http2MaxConcurrentStreams(), services.defaultHttp2MaxConcurrentStreams()),
+                        1,
+                        Integer.MAX_VALUE))
+                .http2InitialStreamWindowSize(checkRange(
+                        serviceName,
+                        "http2InitialStreamWindowSize",
+                        orElse(partial.http2InitialStreamWindowSize(), services.defaultHttp2InitialStreamWindowSize()),
+                        0,
+                        Integer.MAX_VALUE))
+                .http2InitialConnectionWindowSize(checkRange(
+                        serviceName,
+                        "http2InitialConnectionWindowSize",
+                        orElse(
+                                partial.http2InitialConnectionWindowSize(),
+                                services.defaultHttp2InitialConnectionWindowSize()),
+                        HTTP2_DEFAULT_WINDOW_SIZE,
+                        Integer.MAX_VALUE))
+                .http2MaxFrameSize(checkRange(
+                        serviceName,
+                        "http2MaxFrameSize",
+                        orElse(partial.http2MaxFrameSize(), services.defaultHttp2MaxFrameSize()),
+                        HTTP2_MIN_FRAME_SIZE,
+                        HTTP2_MAX_FRAME_SIZE))
+                .endpoints(resolveEndpoints(partial, readTimeout, writeTimeout, backoffSlotSize))
+                .hedging(partial.hedging())
+                .requestCompression(orElse(partial.requestCompression(), services.defaultRequestCompression()))
+                .acceptCompression(
+                        partial.acceptCompression().isEmpty()
+                                ? services.defaultAcceptCompression()
+                                : partial.acceptCompression())
+                .requestCompressionMinSize(
+                        orElse(partial.requestCompressionMinSize(), services.defaultRequestCompressionMinSize()))
+                .structuredUris(partial.structuredUris())
+                .localZone(services.localZone())
+                .slowStartWindow(orElse(partial.slowStartWindow(), services.defaultSlowStartWindow())
+                        .map(ServiceConfigurationFactory::toDuration))
+                .bulkhead(partial.bulkhead())
+                .responseCache(partial.responseCache())
+                .retryBudgetRatio(checkRetryBudgetRatio(
+                        serviceName, orElse(partial.retryBudgetRatio(), services.defaultRetryBudgetRatio())))
+                .generation(GENERATIONS.incrementAndGet())
                 .build();
+        validateUris(serviceName, configuration);
+        // Compute the content hash up front, so that staleness checks against this configuration never pay for it.
+        configuration.contentHash();
+        return configuration;
+    }
+
+    /** Parses the URIs of the given configuration up front, so that clients can rely on the cached parsed form. */
+    private static void validateUris(String serviceName, ServiceConfiguration configuration) {
+        try {
+            configuration.parsedUris();
+        } catch (SafeIllegalArgumentException e) {
+            throw new SafeIllegalArgumentException(
+                    "Invalid URI for service", e, SafeArg.of("serviceName", serviceName));
+        }
+    }
+
+    /**
+     * Resolves each endpoint override against the given service-level settings up front, so that per-request lookups
+     * by endpoint name need not merge settings.
+     */
+    private static Map<String, EndpointConfiguration> resolveEndpoints(
+            PartialServiceConfiguration partial,
+            Optional<Duration> readTimeout,
+            Optional<Duration> writeTimeout,
+            Optional<Duration> backoffSlotSize) {
+        Map<String, EndpointConfiguration> endpoints = new HashMap<>();
+        for (Map.Entry<String, PartialEndpointConfiguration> entry :
+                partial.endpoints().entrySet()) {
+            PartialEndpointConfiguration endpoint = entry.getValue();
+            endpoints.put(
+                    entry.getKey(),
+                    EndpointConfiguration.builder()
+                            .readTimeout(orElse(
+                                    endpoint.readTimeout().map(ServiceConfigurationFactory::toDuration), readTimeout))
+                            .writeTimeout(orElse(
+                                    endpoint.writeTimeout().map(ServiceConfigurationFactory::toDuration), writeTimeout))
+                            .maxNumRetries(orElse(endpoint.maxNumRetries(), partial.maxNumRetries()))
+                            .backoffSlotSize(orElse(
+                                    endpoint.backoffSlotSize().map(ServiceConfigurationFactory::toDuration),
+                                    backoffSlotSize))
+                            .build());
+        }
+        return endpoints;
+    }
+
+    private static void checkStores(String serviceName, SslConfiguration security, Map<Path, Boolean> readable) {
+        List<String> settings = new ArrayList<>(2);
+        List<Path> paths = new ArrayList<>(2);
+        if (!readable.computeIfAbsent(security.trustStorePath(), Files::isReadable)) {
+            settings.add("trustStorePath");
+            paths.add(security.trustStorePath());
+        }
+        security.keyStorePath().ifPresent(keyStorePath -> {
+            if (!readable.computeIfAbsent(keyStorePath, Files::isReadable)) {
+                settings.add("keyStorePath");
+                paths.add(keyStorePath);
+            }
+        });
+        if (!settings.isEmpty()) {
+            throw new SafeIllegalArgumentException(
+                    "Store files for service do not exist or are not readable",
+                    SafeArg.of("serviceName", serviceName),
+                    SafeArg.of("settings", settings),
+                    UnsafeArg.of("paths", paths));
+        }
+    }
+
+    private static Duration toDuration(HumanReadableDuration duration) {
+        return Duration.ofMillis(duration.toMilliseconds());
+    }
+
+    private static Optional<Integer> checkRange(
+            String serviceName, String setting, Optional<Integer> value, int min, int max) {
+        value.ifPresent(v -> {
+            if (v < min || v > max) {
+                throw new SafeIllegalArgumentException(
+                        "HTTP/2 setting for service is out of range",
+                        SafeArg.of("serviceName", serviceName),
+                        SafeArg.of("setting", setting),
+                        SafeArg.of("value", v),
+                        SafeArg.of("min", min),
+                        SafeArg.of("max", max));
+            }
+        });
+        return value;
+    }
+
+    private static Optional<Double> checkRetryBudgetRatio(String serviceName, Optional<Double> ratio) {
+        ratio.ifPresent(r -> {
+            if (!(r >= 0 && r <= 1)) {
+                throw new SafeIllegalArgumentException(
+                        "Retry budget ratio for service must be between 0 and 1",
+                        SafeArg.of("serviceName", serviceName),
+                        SafeArg.of("retryBudgetRatio", r));
+            }
+        });
+        return ratio;
     }
 
     // Returns the first Optional if present, or the second Optional otherwise.
@@ -0,0 +1,180 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.io.Closeable;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the hosts of a set of {@link ServiceUri service URIs} in the background so that request threads never block
+ * on DNS.
+ *
+ * <p>Each distinct host is resolved once per refresh interval on the given executor. Lookups return the addresses of
+ * the most recent successful resolution: if a refresh fails, the previous (stale) addresses continue to be served. A
+ * URI whose host has not been resolved successfully yet has no addresses.
+ */
+public final class ServiceHostResolver implements Closeable {
+
+    private static final SafeLogger log = SafeLoggerFactory.get(ServiceHostResolver.class);
+
+    /** Resolves a host name to its addresses, see {@link InetAddress#getAllByName(String)}. */
+    @FunctionalInterface
+    public interface Resolver {
+        List<InetAddress> resolve(String host) throws UnknownHostException;
+
+        /** The JVM's resolver. */
+        static Resolver system() {
+            return host -> Arrays.asList(InetAddress.getAllByName(host));
+        }
+    }
+
+    private final Resolver resolver;
+
+    /** Entries grouped by host so that URIs sharing a host are resolved once. Immutable after construction. */
+    private final Map<String, List<Entry>> entriesByHost;
+
+    private final Map<ServiceUri, Entry> entries;
+    private final ScheduledFuture<?> refreshTask;
+
+    private ServiceHostResolver(
+            Collection<ServiceUri> uris,
+            Resolver resolver,
+            ScheduledExecutorService executor,
+            Duration refreshInterval) {
+        this.resolver = resolver;
+        Map<String, List<Entry>> byHost = new LinkedHashMap<>();
+        Map<ServiceUri, Entry> byUri = new LinkedHashMap<>();
+        for (ServiceUri uri : uris) {
+            byUri.computeIfAbsent(uri, u -> {
+                Entry entry = new Entry(u.port() < 0 ? 0 : u.port());
+                byHost.computeIfAbsent(u.host(), _host -> new ArrayList<>()).add(entry);
+                return entry;
+            });
+        }
+        this.entriesByHost = Map.copyOf(byHost);
+        this.entries = Map.copyOf(byUri);
+        long intervalNanos = refreshInterval.toNanos();
+        this.refreshTask = executor.scheduleWithFixedDelay(this::refresh, 0, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts resolving the hosts of the given service's {@link ServiceConfiguration#parsedUris() URIs} on the given
+     * executor, immediately and then every {@code refreshInterval}.
+     */
+    public static ServiceHostResolver of(
+            ServiceConfiguration config,
+            Resolver resolver,
+            ScheduledExecutorService executor,
+            Duration refreshInterval) {
+        return of(config.parsedUris(), resolver, executor, refreshInterval);
+    }
+
+    /** Like {@link #of(ServiceConfiguration, Resolver, ScheduledExecutorService, Duration)}, for explicit URIs. */
+    public static ServiceHostResolver of(
+            Collection<ServiceUri> uris,
+            Resolver resolver,
+            ScheduledExecutorService executor,
+            Duration refreshInterval) {
+        Preconditions.checkNotNull(resolver, "resolver is required");
+        Preconditions.checkNotNull(executor, "executor is required");
+        Preconditions.checkArgument(
+                !refreshInterval.isNegative() && !refreshInterval.isZero(),
+                "refreshInterval must be positive",
+                SafeArg.of("refreshInterval", refreshInterval));
+        return new ServiceHostResolver(uris, resolver, executor, refreshInterval);
+    }
+
+    /**
+     * Returns the most recently resolved socket addresses for the given URI, or an empty list if the URI is unknown or
+     * its host has never been resolved successfully. Never blocks.
+     */
+    public List<InetSocketAddress> addresses(ServiceUri uri) {
+        Entry entry = entries.get(uri);
+        return entry == null ? List.of() : entry.addresses;
+    }
+
+    /** Synchronously re-resolves all hosts. Called periodically on the executor, but may also be invoked directly. */
+    public void refresh() {
+        entriesByHost.forEach(this::refresh);
+    }
+
+    private void refresh(String host, List<Entry> hostEntries) {
+        List<InetAddress> resolved;
+        try {
+            resolved = resolver.resolve(host);
+        } catch (UnknownHostException | RuntimeException e) {
+            log.warn(
+                    "Failed to resolve service host, continuing to use previous addresses",
+                    SafeArg.of("host", host),
+                    e);
+            return;
+        }
+        if (resolved == null || resolved.isEmpty()) {
+            log.warn(
+                    "Service host resolved to no addresses, continuing to use previous addresses",
+                    SafeArg.of("host", host));
+            return;
+        }
+        for (Entry entry : hostEntries) {
+            entry.update(resolved);
+        }
+    }
+
+    /** Stops refreshing. Previously resolved addresses remain available. */
+    @Override
+    public void close() {
+        refreshTask.cancel(false);
+    }
+
+    private static final class Entry {
+        private final int port;
+        private volatile List<InetAddress> resolved = List.of();
+        private volatile List<InetSocketAddress> addresses = List.of();
+
+        Entry(int port) {
+            this.port = port;
+        }
+
+        synchronized void update(List<InetAddress> newResolved) {
+            if (newResolved.equals(resolved)) {
+                return;
+            }
+            List<InetSocketAddress> newAddresses = new ArrayList<>(newResolved.size());
+            for (InetAddress address : newResolved) {
+                newAddresses.add(new InetSocketAddress(address, port));
+            }
+            resolved = List.copyOf(newResolved);
+            addresses = List.copyOf(newAddresses);
+        }
+    }
+}
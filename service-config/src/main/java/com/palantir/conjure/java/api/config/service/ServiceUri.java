@@ -0,0 +1,171 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+
+/**
+ * A pre-parsed and validated form of one of the {@link ServiceConfiguration#uris() service URIs}, e.g.
+ * {@code https://host:8443/service/api}. Components are parsed once so that building request URLs is a string
+ * concatenation, see {@link #resolve(String)}.
+ *
+ * <p>Scheme-less URIs such as {@code host/service/api}, which {@link ServiceConfigurationFactory} has always accepted,
+ * are read as host, port and path with an empty {@link #scheme()}; it is up to clients to choose a scheme for them.
+ *
+ * <p>URIs may carry user info such as credentials, so they are only ever logged as unsafe arguments.
+ */
+public final class ServiceUri {
+    private static final int NO_PORT = -1;
+
+    private final String uri;
+    private final String scheme;
+    private final HostAndPort hostAndPort;
+    private final int port;
+    private final String basePath;
+
+    /** Scheme, authority and base path without trailing slash, e.g. {@code https://host:8443/service/api}. */
+    private final String prefix;
+
+    private ServiceUri(String uri, String scheme, HostAndPort hostAndPort, String authority, String basePath) {
+        this.uri = uri;
+        this.scheme = scheme;
+        this.hostAndPort = hostAndPort;
+        this.port = hostAndPort.getPortOrDefault(defaultPort(scheme));
+        this.basePath = basePath;
+        this.prefix = (scheme.isEmpty() ? "" : scheme + "://") + authority + basePath;
+    }
+
+    /**
+     * Parses the given URI, throwing a {@link SafeIllegalArgumentException} if it is malformed, is missing a host, or
+     * contains a query or fragment.
+     */
+    public static ServiceUri fromString(String uri) {
+        Preconditions.checkNotNull(uri, "uri");
+        URI parsed = parse(uri);
+        boolean schemeLess = parsed.getScheme() == null;
+        if (schemeLess) {
+            parsed = parse("//" + uri);
+        }
+        String authority = parsed.getRawAuthority();
+        Preconditions.checkArgument(
+                authority != null && !authority.isEmpty(), "Service URI must have a host", UnsafeArg.of("uri", uri));
+        Preconditions.checkArgument(
+                parsed.getRawQuery() == null && parsed.getRawFragment() == null,
+                "Service URI must not have a query or fragment",
+                UnsafeArg.of("uri", uri));
+
+        String scheme = schemeLess ? "" : parsed.getScheme().toLowerCase(Locale.ROOT);
+        HostAndPort hostAndPort = HostAndPort.fromString(authority.substring(authority.lastIndexOf('@') + 1));
+        Preconditions.checkArgument(
+                !hostAndPort.getHost().isEmpty(), "Service URI must have a host", UnsafeArg.of("uri", uri));
+        return new ServiceUri(uri, scheme, hostAndPort, authority, stripTrailingSlashes(parsed.getRawPath()));
+    }
+
+    private static URI parse(String uri) {
+        try {
+            return new URI(uri);
+        } catch (URISyntaxException e) {
+            throw new SafeIllegalArgumentException("Malformed service URI", e, UnsafeArg.of("uri", uri));
+        }
+    }
+
+    /** The lower-case scheme, e.g. {@code https}, or the empty string for scheme-less URIs. */
+    public String scheme() {
+        return scheme;
+    }
+
+    /** The host name or IP literal, without brackets. */
+    public String host() {
+        return hostAndPort.getHost();
+    }
+
+    /** The explicit port, or the default port of the {@link #scheme()} for http and https, or -1 otherwise. */
+    public int port() {
+        return port;
+    }
+
+    /** The host and port as given in the URI. */
+    public HostAndPort hostAndPort() {
+        return hostAndPort;
+    }
+
+    /** The raw base path without trailing slash, e.g. {@code /service/api}, or the empty string. */
+    public String basePath() {
+        return basePath;
+    }
+
+    /**
+     * Returns the URL for the given raw (already encoded) path relative to this URI's base path, for instance
+     * {@code https://host:8443/service/api/foo} for path {@code /foo} or {@code foo}.
+     */
+    public String resolve(String path) {
+        if (path.isEmpty()) {
+            return prefix;
+        }
+        if (path.charAt(0) == '/') {
+            return prefix.concat(path);
+        }
+        return new StringBuilder(prefix.length() + 1 + path.length())
+                .append(prefix)
+                .append('/')
+                .append(path)
+                .toString();
+    }
+
+    private static String stripTrailingSlashes(String path) {
+        if (path == null) {
+            return "";
+        }
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+
+    private static int defaultPort(String scheme) {
+        switch (scheme) {
+            case "http":
+                return 80;
+            case "https":
+                return 443;
+            default:
+                return NO_PORT;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof ServiceUri && uri.equals(((ServiceUri) other).uri));
+    }
+
+    @Override
+    public int hashCode() {
+        return uri.hashCode();
+    }
+
+    /** Returns the URI as originally configured. */
+    @Override
+    public String toString() {
+        return uri;
+    }
+}
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
 import com.palantir.logsafe.DoNotLog;
 import com.palantir.tokens.auth.BearerToken;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.immutables.value.Value;
@@ -105,6 +106,85 @@ public abstract class ServicesConfigBlock {
     @JsonAlias("fallback-to-common-name-verification")
     public abstract Optional<Boolean> defaultFallbackToCommonNameVerification();
 
+    /** Default maximum number of pooled connections, see {@link PartialServiceConfiguration#maxConnections()}. */
+    @JsonProperty("maxConnections")
+    @JsonAlias("max-connections")
+    public abstract Optional<Integer> defaultMaxConnections();
+
+    /**
+     * Default maximum number of pooled connections per host, see
+     * {@link PartialServiceConfiguration#maxConnectionsPerHost()}.
+     */
+    @JsonProperty("maxConnectionsPerHost")
+    @JsonAlias("max-connections-per-host")
+    public abstract Optional<Integer> defaultMaxConnectionsPerHost();
+
+    /** Default idle connection timeout, see {@link PartialServiceConfiguration#idleConnectionTimeout()}. */
+    @JsonProperty("idleConnectionTimeout")
+    @JsonAlias("idle-connection-timeout")
+    public abstract Optional<HumanReadableDuration> defaultIdleConnectionTimeout();
+
+    /** Default connection time to live, see {@link PartialServiceConfiguration#connectionTimeToLive()}. */
+    @JsonProperty("connectionTimeToLive")
+    @JsonAlias("connection-time-to-live")
+    public abstract Optional<HumanReadableDuration> defaultConnectionTimeToLive();
+
+    /** Default, see {@link PartialServiceConfiguration#http2MaxConcurrentStreams()}. */
+    @JsonProperty("http2MaxConcurrentStreams")
+    @JsonAlias("http2-max-concurrent-streams")
+    public abstract Optional<Integer> defaultHttp2MaxConcurrentStreams();
+
+    /** Default, see {@link PartialServiceConfiguration#http2InitialStreamWindowSize()}. */
+    @JsonProperty("http2InitialStreamWindowSize")
+    @JsonAlias("http2-initial-stream-window-size")
+    public abstract Optional<Integer> defaultHttp2InitialStreamWindowSize();
+
+    /** Default, see {@link PartialServiceConfiguration#http2InitialConnectionWindowSize()}. */
+    @JsonProperty("http2InitialConnectionWindowSize")
+    @JsonAlias("http2-initial-connection-window-size")
+    public abstract Optional<Integer> defaultHttp2InitialConnectionWindowSize();
+
+    /** Default, see {@link PartialServiceConfiguration#http2MaxFrameSize()}. */
+    @JsonProperty("http2MaxFrameSize")
+    @JsonAlias("http2-max-frame-size")
+    public abstract Optional<Integer> defaultHttp2MaxFrameSize();
+
+    /** Default, see {@link PartialServiceConfiguration#requestCompression()}. */
+    @JsonProperty("requestCompression")
+    @JsonAlias("request-compression")
+    public abstract Optional<CompressionAlgorithm> defaultRequestCompression();
+
+    /**
+     * Default, see {@link PartialServiceConfiguration#acceptCompression()}. Used by services which do not list any
+     * accepted algorithms.
+     */
+    @JsonProperty("acceptCompression")
+    @JsonAlias("accept-compression")
+    public abstract List<CompressionAlgorithm> defaultAcceptCompression();
+
+    /** Default, see {@link PartialServiceConfiguration#requestCompressionMinSize()}. */
+    @JsonProperty("requestCompressionMinSize")
+    @JsonAlias("request-compression-min-size")
+    public abstract Optional<Integer> defaultRequestCompressionMinSize();
+
+    /**
+     * The availability zone this process runs in. Requests prefer service URIs in this
+     * {@link UriConfiguration#zone() zone}, see {@link WeightedNodeTable}.
+     */
+    @JsonProperty("localZone")
+    @JsonAlias("local-zone")
+    public abstract Optional<String> localZone();
+
+    /** Default, see {@link PartialServiceConfiguration#slowStartWindow()}. */
+    @JsonProperty("slowStartWindow")
+    @JsonAlias("slow-start-window")
+    public abstract Optional<HumanReadableDuration> defaultSlowStartWindow();
+
+    /** Default, see {@link PartialServiceConfiguration#retryBudgetRatio()}. */
+    @JsonProperty("retryBudgetRatio")
+    @JsonAlias("retry-budget-ratio")
+    public abstract Optional<Double> defaultRetryBudgetRatio();
+
     public static ServicesConfigBlock empty() {
         return ImmutableServicesConfigBlock.of();
     }
@@ -0,0 +1,239 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import com.palantir.logsafe.exceptions.SafeUncheckedIoException;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Watches a YAML or JSON file containing a {@link ServicesConfigBlock} and publishes a new snapshot whenever the file
+ * content changes.
+ *
+ * <p>File system events are debounced: a reload only happens once no further events have been observed for the
+ * configured debounce window, and the file is only re-parsed if the hash of its content differs from the last
+ * successfully parsed content. If the file cannot be read or parsed, the previous snapshot is retained.
+ *
+ * <p>{@link #get()} is a single volatile read and may be called on hot paths.
+ */
+public final class ServicesConfigBlockFileWatcher implements Supplier<ServicesConfigBlock>, Closeable {
+
+    private static final SafeLogger log = SafeLoggerFactory.get(ServicesConfigBlockFileWatcher.class);
+
+    /** The default quiet period to wait for after the last file system event before reloading. */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+    private final Path file;
+    private final ObjectMapper mapper;
+    private final long debounceNanos;
+    private final WatchService watchService;
+    private final List<Consumer<ServicesConfigBlock>> subscribers = new CopyOnWriteArrayList<>();
+    private final Object publishLock = new Object();
+
+    // Only read and written by the watcher thread after construction.
+    private byte[] contentHash;
+
+    private volatile ServicesConfigBlock current;
+    private volatile boolean closed;
+
+    private ServicesConfigBlockFileWatcher(
+            Path file, ObjectMapper mapper, Duration debounce, WatchService watchService) {
+        this.file = file;
+        this.mapper = mapper;
+        this.debounceNanos = debounce.toNanos();
+        this.watchService = watchService;
+    }
+
+    /** Like {@link #create(Path, ObjectMapper, Duration)}, using {@link #DEFAULT_DEBOUNCE}. */
+    public static ServicesConfigBlockFileWatcher create(Path file, ObjectMapper mapper) {
+        return create(file, mapper, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Loads the given file using the given {@link ObjectMapper} (which must be able to read the file format, e.g. a
+     * YAML mapper for YAML files) and starts watching it for changes on a daemon thread. Throws if the initial load
+     * fails.
+     */
+    public static ServicesConfigBlockFileWatcher create(Path file, ObjectMapper mapper, Duration debounce) {
+        Preconditions.checkNotNull(file, "file is required");
+        Preconditions.checkNotNull(mapper, "mapper is required");
+        Preconditions.checkArgument(
+                !debounce.isNegative(), "debounce must not be negative", SafeArg.of("debounce", debounce));
+        Path absolute = file.toAbsolutePath();
+        Path directory = Preconditions.checkNotNull(
+                absolute.getParent(), "file must have a parent directory", UnsafeArg.of("file", file));
+
+        WatchService watchService;
+        try {
+            watchService = absolute.getFileSystem().newWatchService();
+            // Register before the initial load so that no modification can be missed in between.
+            directory.register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new SafeUncheckedIoException("Failed to watch services config file", e, UnsafeArg.of("file", file));
+        }
+
+        ServicesConfigBlockFileWatcher watcher =
+                new ServicesConfigBlockFileWatcher(absolute, mapper, debounce, watchService);
+        try {
+            byte[] content = Files.readAllBytes(absolute);
+            watcher.contentHash = hash(content);
+            watcher.current = mapper.readValue(content, ServicesConfigBlock.class);
+        } catch (IOException e) {
+            watcher.close();
+            throw new SafeUncheckedIoException("Failed to load services config file", e, UnsafeArg.of("file", file));
+        } catch (RuntimeException e) {
+            watcher.close();
+            throw e;
+        }
+
+        Thread thread = new Thread(watcher::watch, "services-config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watcher;
+    }
+
+    /** Returns the most recently published snapshot. */
+    @Override
+    public ServicesConfigBlock get() {
+        return current;
+    }
+
+    /**
+     * Registers a subscriber which is immediately invoked with the current snapshot, and subsequently with every newly
+     * published snapshot. Subscribers are invoked on the watcher thread and should not block.
+     */
+    public void subscribe(Consumer<ServicesConfigBlock> subscriber) {
+        Preconditions.checkNotNull(subscriber, "subscriber is required");
+        synchronized (publishLock) {
+            subscribers.add(subscriber);
+            subscriber.accept(current);
+        }
+    }
+
+    /** Stops watching the file. The last published snapshot remains available from {@link #get()}. */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to close watch service", UnsafeArg.of("file", file), e);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!closed) {
+                drain(watchService.take());
+                // Wait for a quiet period so that bursts of events (e.g. truncate followed by write) cause one reload.
+                WatchKey next;
+                while ((next = watchService.poll(debounceNanos, TimeUnit.NANOSECONDS)) != null) {
+                    drain(next);
+                }
+                reload();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void drain(WatchKey key) {
+        // Events are not inspected individually: atomic replacement of mounted config files frequently surfaces as
+        // events on sibling entries, and the content hash prevents redundant re-parsing.
+        key.pollEvents();
+        key.reset();
+    }
+
+    private void reload() {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (IOException e) {
+            log.warn(
+                    "Failed to read services config file, retaining previous configuration",
+                    UnsafeArg.of("file", file),
+                    e);
+            return;
+        }
+
+        byte[] newHash = hash(content);
+        if (MessageDigest.isEqual(newHash, contentHash)) {
+            return;
+        }
+
+        ServicesConfigBlock parsed;
+        try {
+            parsed = mapper.readValue(content, ServicesConfigBlock.class);
+        } catch (IOException | RuntimeException e) {
+            log.warn(
+                    "Failed to parse services config file, retaining previous configuration",
+                    UnsafeArg.of("file", file),
+                    e);
+            return;
+        }
+
+        contentHash = newHash;
+        if (parsed.equals(current)) {
+            return;
+        }
+        synchronized (publishLock) {
+            current = parsed;
+            for (Consumer<ServicesConfigBlock> subscriber : subscribers) {
+                try {
+                    subscriber.accept(parsed);
+                } catch (RuntimeException e) {
+                    log.warn("Services config subscriber failed", e);
+                }
+            }
+        }
+    }
+
+    private static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new SafeIllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Ramps up the traffic sent to nodes which have just been added to a service or re-admitted after
+ * {@link NodeHealthScoreboard ejection}, so that cold nodes are not flooded while their JIT and caches warm up.
+ *
+ * <p>Once {@link #start(int) started}, a node's effective weight grows from {@link #MIN_WEIGHT} to 1 over the
+ * {@link ServiceConfiguration#slowStartWindow() slow start window}, following
+ * {@code MIN_WEIGHT + (1 - MIN_WEIGHT) * t^(1 / aggression)} for the elapsed fraction {@code t} of the window. An
+ * aggression above 1 sends more traffic early in the window. The curve is precomputed in {@value #CURVE_POINTS}
+ * steps, so evaluating a node's weight in the selection path costs a clock read and a table lookup, and nothing at all
+ * once the node is warm.
+ *
+ * <p>Node indices correspond to {@link ServiceConfiguration#uris()}. When the service configuration is refreshed, use
+ * {@link #refresh(ServiceConfiguration)} to carry the ramp of retained nodes over and start newly added ones.
+ */
+public final class SlowStartRamp {
+
+    /** The weight of a node at the start of its ramp, as a fraction of its full weight. */
+    public static final double MIN_WEIGHT = 0.1;
+
+    public static final double DEFAULT_AGGRESSION = 1;
+
+    private static final int CURVE_POINTS = 64;
+    private static final long WARM = Long.MIN_VALUE;
+
+    private final List<String> uris;
+    private final long windowNanos;
+    private final double aggression;
+    private final long stepNanos;
+    private final double[] curve;
+    private final LongSupplier nanoClock;
+
+    // the nanoClock time each node was started at, or WARM
+    private final PaddedAtomicLongArray startedAt;
+
+    // visible for testing
+    SlowStartRamp(List<String> uris, Duration window, double aggression, LongSupplier nanoClock) {
+        Preconditions.checkArgument(!window.isNegative(), "window must not be negative", SafeArg.of("window", window));
+        Preconditions.checkArgument(
+                aggression > 0 && Double.isFinite(aggression),
+                "aggression must be positive",
+                SafeArg.of("aggression", aggression));
+        this.uris = List.copyOf(uris);
+        this.windowNanos = window.toNanos();
+        this.aggression = aggression;
+        this.stepNanos = Math.max(1, windowNanos / CURVE_POINTS);
+        this.curve = new double[CURVE_POINTS];
+        for (int i = 0; i < CURVE_POINTS; i++) {
+            double elapsed = (double) i / CURVE_POINTS;
+            curve[i] = MIN_WEIGHT + (1 - MIN_WEIGHT) * Math.pow(elapsed, 1 / aggression);
+        }
+        this.nanoClock = nanoClock;
+        this.startedAt = new PaddedAtomicLongArray(uris.size());
+        for (int i = 0; i < uris.size(); i++) {
+            startedAt.set(i, WARM);
+        }
+    }
+
+    /**
+     * Creates a ramp for the URIs of the given service using its {@link ServiceConfiguration#slowStartWindow() slow
+     * start window}, without slow start if none is configured. All nodes are initially warm.
+     */
+    public static SlowStartRamp of(ServiceConfiguration config) {
+        return of(config, DEFAULT_AGGRESSION);
+    }
+
+    /** Like {@link #of(ServiceConfiguration)}, with the given aggression of the ramp curve. */
+    public static SlowStartRamp of(ServiceConfiguration config, double aggression) {
+        return new SlowStartRamp(
+                config.uris(), config.slowStartWindow().orElse(Duration.ZERO), aggression, System::nanoTime);
+    }
+
+    /**
+     * Returns a ramp for the refreshed configuration of the same service. Nodes with URIs which were already present
+     * in this ramp continue their ramp, if any; nodes with new URIs are started.
+     */
+    public SlowStartRamp refresh(ServiceConfiguration config) {
+        SlowStartRamp refreshed =
+                new SlowStartRamp(config.uris(), config.slowStartWindow().orElse(Duration.ZERO), aggression, nanoClock);
+        Map<String, Integer> previous = new HashMap<>();
+        for (int i = 0; i < uris.size(); i++) {
+            previous.putIfAbsent(uris.get(i), i);
+        }
+        for (int i = 0; i < refreshed.uris.size(); i++) {
+            Integer node = previous.get(refreshed.uris.get(i));
+            if (node == null) {
+                refreshed.start(i);
+            } else {
+                refreshed.startedAt.set(i, startedAt.get(node));
+            }
+        }
+        return refreshed;
+    }
+
+    /** The number of nodes. */
+    public int nodes() {
+        return uris.size();
+    }
+
+    /** Starts ramping up the given node now. Has no effect if no slow start window is configured. */
+    public void start(int node) {
+        if (windowNanos > 0) {
+            startedAt.set(node, nanoClock.getAsLong());
+        }
+    }
+
+    /** Returns true if the given node has completed its ramp. */
+    public boolean isWarm(int node) {
+        return weight(node) == 1;
+    }
+
+    /** The current weight of the given node as a fraction of its full weight, between {@link #MIN_WEIGHT} and 1. */
+    public double weight(int node) {
+        long started = startedAt.get(node);
+        if (started == WARM) {
+            return 1;
+        }
+        long step = (nanoClock.getAsLong() - started) / stepNanos;
+        if (step < CURVE_POINTS) {
+            return curve[(int) Math.max(0, step)];
+        }
+        // Unless restarted concurrently, skip the clock read for this node from now on.
+        startedAt.compareAndSet(node, started, WARM);
+        return 1;
+    }
+
+    /**
+     * Decides at random whether a request should be sent to the given node, with a probability of its current
+     * {@link #weight(int) weight}.
+     */
+    public boolean admit(int node) {
+        double weight = weight(node);
+        return weight == 1 || ThreadLocalRandom.current().nextDouble() < weight;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.logsafe.DoNotLog;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.Optional;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * A service URI with locality and load-balancing metadata, the structured alternative to the plain strings in
+ * {@link PartialServiceConfiguration#uris()}.
+ */
+@DoNotLog
+@Immutable
+@JsonSerialize(as = ImmutableUriConfiguration.class)
+@JsonDeserialize(builder = UriConfiguration.Builder.class)
+@ImmutablesStyle
+public abstract class UriConfiguration {
+
+    public abstract String uri();
+
+    /** The availability zone the node behind this URI runs in. Nodes in the local zone are preferred. */
+    public abstract Optional<String> zone();
+
+    /**
+     * The share of traffic this URI receives relative to the other URIs of the service. Defaults to 1; a weight of 0
+     * drains the URI unless no other URI has a positive weight.
+     */
+    @Value.Default
+    @SuppressWarnings("checkstyle:designforextension")
+    @JsonProperty("weight")
+    public double weight() {
+        return 1;
+    }
+
+    @Value.Check
+    protected final void check() {
+        Preconditions.checkArgument(
+                weight() >= 0 && Double.isFinite(weight()),
+                "weight must be a non-negative number",
+                SafeArg.of("weight", weight()));
+    }
+
+    public static UriConfiguration of(String uri, String zone) {
+        return builder().uri(uri).zone(zone).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder extends ImmutableUriConfiguration.Builder {}
+}
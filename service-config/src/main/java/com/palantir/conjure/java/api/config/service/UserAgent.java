@@ -19,6 +19,8 @@ package com.palantir.conjure.java.api.config.service;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import org.immutables.value.Value;
@@ -67,6 +69,33 @@ public interface UserAgent {
                 .build();
     }
 
+    /**
+     * The canonical header value of this user agent, see {@link UserAgents#format}. Formatted once on first access, so
+     * that clients sending the same user agent with every request do not format it each time.
+     */
+    @Value.Lazy
+    default String formatted() {
+        return UserAgents.formatInternal(this);
+    }
+
+    /**
+     * The {@link #formatted()} header value encoded as US-ASCII, which covers all characters user agents may contain,
+     * for clients writing headers as bytes. Each call returns a new read-only buffer with its own position over bytes
+     * which are encoded once on first access, so callers may consume it freely.
+     */
+    default ByteBuffer formattedAscii() {
+        return formattedAsciiBuffer().duplicate();
+    }
+
+    /**
+     * The read-only buffer which backs {@link #formattedAscii()}, encoded once on first access. Its position is shared
+     * by all callers, so use {@link #formattedAscii()} instead, which returns an independent duplicate.
+     */
+    @Value.Lazy
+    default ByteBuffer formattedAsciiBuffer() {
+        return ByteBuffer.wrap(formatted().getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+    }
+
     /**
      * Returns a new {@link UserAgent} instance whose {@link #informational} agents are this instance's agents plus the
      * given agent.
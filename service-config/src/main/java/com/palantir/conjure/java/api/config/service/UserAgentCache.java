@@ -0,0 +1,121 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache of parsed User-Agent headers for servers, which typically see few distinct headers across many
+ * requests. {@link #parse} and {@link #tryParse} behave like {@link UserAgents#parse} and {@link UserAgents#tryParse},
+ * but return the same {@link UserAgent} instance for repeated headers; a hit costs a single hash lookup.
+ *
+ * <p>The cache holds two generations of at most {@code maxSize} headers each. New headers are added to the current
+ * generation; once it is full, it becomes the previous generation and the former previous generation is discarded.
+ * Headers found in the previous generation are promoted to the current one, so that headers in use survive while a
+ * flood of unique headers, e.g. from a hostile client, only causes a bounded amount of memory to be retained.
+ * Headers which fail to parse, e.g. due to an invalid node id, are not cached.
+ */
+public final class UserAgentCache {
+
+    private final int maxSize;
+    private volatile Generations generations = new Generations(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+
+    private UserAgentCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /** Creates a cache which retains at most about twice the given number of headers. */
+    public static UserAgentCache of(int maxSize) {
+        Preconditions.checkArgument(maxSize > 0, "maxSize must be positive", SafeArg.of("maxSize", maxSize));
+        return new UserAgentCache(maxSize);
+    }
+
+    /** See {@link UserAgents#parse}. */
+    public UserAgent parse(String userAgent) {
+        Preconditions.checkNotNull(userAgent, "userAgent must not be null");
+        Entry entry = get(userAgent);
+        return entry.parsed != null ? entry.parsed : UserAgents.noPrimaryAgent(userAgent, false /* strict */);
+    }
+
+    /** See {@link UserAgents#tryParse}. */
+    public UserAgent tryParse(String userAgent) {
+        String value = userAgent == null ? "" : userAgent;
+        Entry entry = get(value);
+        return entry.parsed != null ? entry.parsed : entry.unknown(value);
+    }
+
+    // visible for testing
+    int size() {
+        Generations current = generations;
+        return current.current.size() + current.previous.size();
+    }
+
+    private Entry get(String userAgent) {
+        Generations current = generations;
+        Entry entry = current.current.get(userAgent);
+        if (entry != null) {
+            return entry;
+        }
+        entry = current.previous.get(userAgent);
+        if (entry == null) {
+            entry = new Entry(UserAgents.scan(userAgent));
+        }
+        current.current.put(userAgent, entry);
+        if (current.current.size() >= maxSize) {
+            rotate(current);
+        }
+        return entry;
+    }
+
+    private synchronized void rotate(Generations full) {
+        // Another thread may have rotated already
+        if (generations == full) {
+            generations = new Generations(new ConcurrentHashMap<>(), full.current);
+        }
+    }
+
+    private static final class Generations {
+        private final ConcurrentHashMap<String, Entry> current;
+        private final ConcurrentHashMap<String, Entry> previous;
+
+        Generations(ConcurrentHashMap<String, Entry> current, ConcurrentHashMap<String, Entry> previous) {
+            this.current = current;
+            this.previous = previous;
+        }
+    }
+
+    /** The parsed user agent of a header, or null if the header has no primary agent. */
+    private static final class Entry {
+        private final UserAgent parsed;
+        private volatile UserAgent unknown;
+
+        Entry(UserAgent parsed) {
+            this.parsed = parsed;
+        }
+
+        UserAgent unknown(String userAgent) {
+            UserAgent result = unknown;
+            if (result == null) {
+                result = UserAgents.noPrimaryAgent(userAgent, true /* lenient */);
+                unknown = result;
+            }
+            return result;
+        }
+    }
+}
@@ -38,16 +38,26 @@ public final class UserAgents {
     // visible for testing compatibility
     static final Pattern NAME_REGEX = Pattern.compile("[a-zA-Z][a-zA-Z0-9\\-]*");
     private static final Pattern LENIENT_VERSION_REGEX = Pattern.compile("[0-9a-z.-]+");
-    private static final Pattern NODE_REGEX = Pattern.compile("[a-zA-Z0-9][a-zA-Z0-9.\\-]*");
+    // performance note: isValidNodeId uses hand-rolled parser to validate node id effectively matches NODE_REGEX
+    // visible for testing compatibility
+    static final Pattern NODE_REGEX = Pattern.compile("[a-zA-Z0-9][a-zA-Z0-9.\\-]*");
+    // performance note: isValidVersion uses VersionParser to validate version effectively matches VERSION_REGEX
     private static final Pattern VERSION_REGEX =
             Pattern.compile("^[0-9]+(\\.[0-9]+)*(-rc[0-9]+)?(-[0-9]+-g[a-f0-9]+)?$");
+    // performance note: parseInternal uses a hand-rolled scanner equivalent to finding all matches of SEGMENT_PATTERN
     private static final Pattern SEGMENT_PATTERN =
             Pattern.compile(String.format("(%s)/(%s)( \\((.+?)\\))?", NAME_REGEX, LENIENT_VERSION_REGEX));
+    private static final String NODE_ID = "nodeId";
 
     private UserAgents() {}
 
-    /** Returns the canonical string format for the given {@link UserAgent}. */
+    /** Returns the canonical string format for the given {@link UserAgent}, see {@link UserAgent#formatted()}. */
     public static String format(UserAgent userAgent) {
+        return userAgent.formatted();
+    }
+
+    // visible for UserAgent#formatted
+    static String formatInternal(UserAgent userAgent) {
         StringBuilder formatted = new StringBuilder(64); // preallocate larger buffer for longer agents
         formatSimpleAgent(userAgent.primary(), formatted);
         if (userAgent.nodeId().isPresent()) {
@@ -87,6 +97,55 @@ public final class UserAgents {
     }
 
     private static UserAgent parseInternal(String userAgent, boolean lenient) {
+        UserAgent parsed = scan(userAgent);
+        return parsed != null ? parsed : noPrimaryAgent(userAgent, lenient);
+    }
+
+    /** Returns the parsed user agent, or null if the given string contains no primary agent. */
+    static UserAgent scan(String userAgent) {
+        ImmutableUserAgent.Builder builder = ImmutableUserAgent.builder();
+
+        // Single pass over the string, finding the same "name/version (comments)" segments as SEGMENT_PATTERN
+        int length = userAgent.length();
+        boolean foundFirst = false;
+        int start = 0;
+        while (start < length) {
+            if (!isAlpha(userAgent.charAt(start))) {
+                start++;
+                continue;
+            }
+            int nameEnd = skipNameChars(userAgent, start + 1);
+            int versionEnd = nameEnd < length && userAgent.charAt(nameEnd) == '/'
+                    ? skipVersionChars(userAgent, nameEnd + 1)
+                    : nameEnd + 1;
+            if (versionEnd == nameEnd + 1) {
+                // No segment can start before the end of this name either, as it would end at the same character
+                start = nameEnd + 1;
+                continue;
+            }
+            UserAgent.Agent agent = UserAgent.Agent.of(
+                    userAgent.substring(start, nameEnd), userAgent.substring(nameEnd + 1, versionEnd));
+            int commentsEnd = commentsEnd(userAgent, versionEnd);
+            if (!foundFirst) {
+                // primary
+                builder.primary(agent);
+                if (commentsEnd >= 0) {
+                    builder.nodeId(Optional.ofNullable(parseNodeId(userAgent, versionEnd + 2, commentsEnd)));
+                }
+            } else {
+                // informational
+                builder.addInformational(agent);
+            }
+
+            foundFirst = true;
+            start = commentsEnd >= 0 ? commentsEnd + 1 : versionEnd;
+        }
+
+        return foundFirst ? builder.build() : null;
+    }
+
+    // visible for testing and benchmarking, the previous regex-based implementation of parseInternal
+    static UserAgent parseWithRegex(String userAgent, boolean lenient) {
         ImmutableUserAgent.Builder builder = ImmutableUserAgent.builder();
 
         Matcher matcher = SEGMENT_PATTERN.matcher(userAgent);
@@ -114,21 +173,116 @@ public final class UserAgents {
         }
 
         if (!foundFirst) {
-            if (lenient) {
-                if (log.isDebugEnabled()) {
-                    log.debug(
-                            "Invalid user agent '{}', falling back to default/unknown agent",
-                            SafeArg.of("userAgent", userAgent));
+            return noPrimaryAgent(userAgent, lenient);
+        }
+
+        return builder.build();
+    }
+
+    static UserAgent noPrimaryAgent(String userAgent, boolean lenient) {
+        if (lenient) {
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "Invalid user agent '{}', falling back to default/unknown agent",
+                        SafeArg.of("userAgent", userAgent));
+            }
+            return ImmutableUserAgent.builder()
+                    .primary(UserAgent.Agent.of("unknown", UserAgent.Agent.DEFAULT_VERSION))
+                    .build();
+        } else {
+            throw new SafeIllegalArgumentException(
+                    "Failed to parse user agent string", SafeArg.of("userAgent", userAgent));
+        }
+    }
+
+    /** Returns the index after the run of characters matching {@code [a-zA-Z0-9-]} starting at the given index. */
+    private static int skipNameChars(String userAgent, int start) {
+        int end = start;
+        while (end < userAgent.length() && isNameChar(userAgent.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /** Returns the index after the run of characters matching {@code [0-9a-z.-]} starting at the given index. */
+    private static int skipVersionChars(String userAgent, int start) {
+        int end = start;
+        while (end < userAgent.length() && isLenientVersionChar(userAgent.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the index of the parenthesis closing the comments which start at the given index, i.e. of the first
+     * {@code )} after {@code " ("} and at least one character, or -1 if there are none. Like the regex {@code .},
+     * comments do not span line terminators.
+     */
+    private static int commentsEnd(String userAgent, int start) {
+        int length = userAgent.length();
+        if (start + 2 >= length
+                || userAgent.charAt(start) != ' '
+                || userAgent.charAt(start + 1) != '('
+                || isLineTerminator(userAgent.charAt(start + 2))) {
+            return -1;
+        }
+        for (int i = start + 3; i < length; i++) {
+            char ch = userAgent.charAt(i);
+            if (ch == ')') {
+                return i;
+            }
+            if (isLineTerminator(ch)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the node id of the last comment, separated by {@code ,} or {@code ;}, which {@link #parseComments} maps to
+     * a {@code nodeId}, or null if there is none.
+     */
+    private static String parseNodeId(String userAgent, int start, int end) {
+        String nodeId = null;
+        int commentStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || userAgent.charAt(i) == ',' || userAgent.charAt(i) == ';') {
+                String commentNodeId = commentNodeId(userAgent, commentStart, i);
+                if (commentNodeId != null) {
+                    nodeId = commentNodeId;
                 }
-                return builder.primary(UserAgent.Agent.of("unknown", UserAgent.Agent.DEFAULT_VERSION))
-                        .build();
-            } else {
-                throw new SafeIllegalArgumentException(
-                        "Failed to parse user agent string", SafeArg.of("userAgent", userAgent));
+                commentStart = i + 1;
             }
         }
+        return nodeId;
+    }
 
-        return builder.build();
+    /**
+     * Returns the node id of a single comment: the value of {@code nodeId:value}, where the value must not be empty
+     * and may only be followed by further colons, which {@link String#split} drops; or {@code nodeId} itself for a bare
+     * {@code nodeId} comment. Returns null for any other comment.
+     */
+    private static String commentNodeId(String userAgent, int start, int end) {
+        int valueStart = start + NODE_ID.length() + 1;
+        if (valueStart - 1 > end || !userAgent.startsWith(NODE_ID, start)) {
+            return null;
+        }
+        if (valueStart - 1 == end) {
+            return NODE_ID;
+        }
+        if (userAgent.charAt(valueStart - 1) != ':') {
+            return null;
+        }
+        int valueEnd = valueStart;
+        while (valueEnd < end && userAgent.charAt(valueEnd) != ':') {
+            valueEnd++;
+        }
+        for (int i = valueEnd; i < end; i++) {
+            if (userAgent.charAt(i) != ':') {
+                return null;
+            }
+        }
+        return valueEnd > valueStart ? userAgent.substring(valueStart, valueEnd) : null;
     }
 
     private static Map<String, String> parseComments(String commentsString) {
@@ -173,13 +327,43 @@ public final class UserAgents {
         return '0' <= ch && ch <= '9';
     }
 
+    private static boolean isNameChar(char ch) {
+        return isAlpha(ch) || isNumeric(ch) || ch == '-';
+    }
+
+    private static boolean isLenientVersionChar(char ch) {
+        return ('a' <= ch && ch <= 'z') || isNumeric(ch) || ch == '.' || ch == '-';
+    }
+
+    /** The characters which the regex {@code .} does not match, see {@link Pattern}. */
+    private static boolean isLineTerminator(char ch) {
+        return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+    }
+
     static boolean isValidNodeId(String instanceId) {
-        return NODE_REGEX.matcher(instanceId).matches();
+        // hand rolled implementation of NODE_REGEX.matcher(instanceId).matches() to avoid allocations
+        // "[a-zA-Z0-9][a-zA-Z0-9.\\-]*"
+        if (instanceId.isEmpty()) {
+            return false;
+        }
+        char ch = instanceId.charAt(0);
+        if (!isAlpha(ch) && !isNumeric(ch)) {
+            return false;
+        }
+
+        for (int i = 1; i < instanceId.length(); i++) {
+            ch = instanceId.charAt(i);
+            if (!isNameChar(ch) && ch != '.') {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     static boolean isValidVersion(String version) {
         if (VersionParser.countNumericDotGroups(version) >= 2 // fast path for numeric & dot only version numbers
-                || versionMatchesRegex(version)) {
+                || VersionParser.isValidVersion(version)) {
             return true;
         }
 
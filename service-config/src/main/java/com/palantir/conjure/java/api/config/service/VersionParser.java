@@ -32,6 +32,9 @@ import com.google.errorprone.annotations.Immutable;
  * <p>
  * We bit-pack these two integer values into a single long using {@link #ok(int, int)} and {@link #fail(int)} functions
  * because primitive longs live on the stack and don't impact GC.
+ * <p>
+ * {@link #isValidVersion(String)} combines such parsers to recognize the full user agent version grammar, including
+ * release candidate and commit suffixes, without a regex.
  */
 @Immutable
 final class VersionParser {
@@ -59,6 +62,52 @@ final class VersionParser {
         return -1;
     }
 
+    /**
+     * Returns true if the given string matches {@code [0-9]+(\.[0-9]+)*(-rc[0-9]+)?(-[0-9]+-g[a-f0-9]+)?}, e.g.
+     * {@code 1.2.3}, {@code 1.2.3-rc4}, {@code 1.2.3-4-gabc} or {@code 1.2.3-rc4-5-gabc}.
+     */
+    public static boolean isValidVersion(String string) {
+        long state = digits(string, 0);
+        while (isOk(state)) {
+            long dot = literalDot(string, getIndex(state));
+            if (failed(dot)) {
+                break;
+            }
+            state = digits(string, getIndex(dot));
+        }
+        if (failed(state)) {
+            return false;
+        }
+
+        int index = getIndex(state);
+        index = orElse(releaseCandidate(string, index), index);
+        index = orElse(commits(string, index), index);
+        return index == string.length();
+    }
+
+    /** Parses a release candidate suffix: {@code -rcN}. */
+    static long releaseCandidate(String string, int startIndex) {
+        long state = literal(string, startIndex, "-rc");
+        return isOk(state) ? digits(string, getIndex(state)) : state;
+    }
+
+    /** Parses a suffix of commits since the last tag: {@code -N-gHASH}. */
+    static long commits(String string, int startIndex) {
+        long state = literal(string, startIndex, "-");
+        if (isOk(state)) {
+            state = digits(string, getIndex(state));
+        }
+        if (isOk(state)) {
+            state = literal(string, getIndex(state), "-g");
+        }
+        return isOk(state) ? hexDigits(string, getIndex(state)) : state;
+    }
+
+    /** Returns the index after an optional element: the index of the given state if it succeeded, else the default. */
+    private static int orElse(long state, int defaultIndex) {
+        return isOk(state) ? getIndex(state) : defaultIndex;
+    }
+
     private static final long INT_MASK = (1L << 32) - 1;
     private static final int PARSE_FAILED = Integer.MIN_VALUE;
 
@@ -103,6 +152,40 @@ final class VersionParser {
         }
     }
 
+    /** Parses one or more ASCII digits, returning their count; unlike {@link #number}, never overflows. */
+    static long digits(String string, int startIndex) {
+        int next = startIndex;
+        while (next < string.length() && isAsciiDigit(string.charAt(next))) {
+            next++;
+        }
+        return next == startIndex ? fail(startIndex) : ok(next, next - startIndex);
+    }
+
+    /** Parses one or more lowercase hexadecimal digits, returning their count. */
+    static long hexDigits(String string, int startIndex) {
+        int next = startIndex;
+        while (next < string.length() && isLowerHexDigit(string.charAt(next))) {
+            next++;
+        }
+        return next == startIndex ? fail(startIndex) : ok(next, next - startIndex);
+    }
+
+    static long literal(String string, int startIndex, String literal) {
+        if (string.startsWith(literal, startIndex)) {
+            return ok(startIndex + literal.length(), 0);
+        } else {
+            return fail(startIndex);
+        }
+    }
+
+    private static boolean isAsciiDigit(char ch) {
+        return '0' <= ch && ch <= '9';
+    }
+
+    private static boolean isLowerHexDigit(char ch) {
+        return isAsciiDigit(ch) || ('a' <= ch && ch <= 'f');
+    }
+
     /**
      * We are bit-packing two integers into a single long.  The 'index' occupies half of the bits and the 'result'
      * occupies the other half.
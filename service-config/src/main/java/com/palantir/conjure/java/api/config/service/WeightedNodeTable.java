@@ -0,0 +1,205 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A precomputed table for sampling the nodes of a service at random in proportion to their
+ * {@link UriConfiguration#weight() weights}, preferring nodes in the local {@link UriConfiguration#zone() zone}.
+ *
+ * <p>Node indices correspond to {@link ServiceConfiguration#uris()}. If a local zone is configured and at least one
+ * node in it has a positive weight, {@link #sample()} only returns such nodes; otherwise it samples all nodes.
+ * {@link #sampleAny()} always samples all nodes, e.g. to fail over once the local nodes are unhealthy. Nodes configured
+ * as plain URIs have weight 1 and no zone. If no node has a positive weight, nodes are sampled uniformly.
+ *
+ * <p>Sampling uses Vose's alias method and takes constant time regardless of the number of nodes.
+ */
+public final class WeightedNodeTable {
+
+    private final double[] weights;
+    private final boolean[] local;
+    private final AliasTable localTable;
+    private final AliasTable allTable;
+
+    private WeightedNodeTable(double[] weights, boolean[] local) {
+        this.weights = weights;
+        this.local = local;
+        AliasTable all = AliasTable.create(weights, null);
+        this.allTable = all != null ? all : AliasTable.uniform(weights.length);
+        this.localTable = AliasTable.create(weights, local);
+    }
+
+    /** Builds the table for the URIs of the given service, see {@link ServiceConfiguration#nodeTable()}. */
+    static WeightedNodeTable of(ServiceConfiguration config) {
+        Map<String, UriConfiguration> structured = new HashMap<>();
+        for (UriConfiguration uri : config.structuredUris()) {
+            structured.put(uri.uri(), uri);
+        }
+        List<String> uris = config.uris();
+        double[] weights = new double[uris.size()];
+        boolean[] local = new boolean[uris.size()];
+        for (int i = 0; i < uris.size(); i++) {
+            UriConfiguration uri = structured.get(uris.get(i));
+            weights[i] = uri == null ? 1 : uri.weight();
+            Optional<String> zone = uri == null ? Optional.empty() : uri.zone();
+            local[i] = config.localZone().isPresent() && zone.equals(config.localZone());
+        }
+        return new WeightedNodeTable(weights, local);
+    }
+
+    /** Returns a table of the given number of nodes with equal weights and no zone preference. */
+    public static WeightedNodeTable uniform(int nodes) {
+        Preconditions.checkArgument(nodes >= 0, "nodes must not be negative", SafeArg.of("nodes", nodes));
+        double[] weights = new double[nodes];
+        Arrays.fill(weights, 1);
+        return new WeightedNodeTable(weights, new boolean[nodes]);
+    }
+
+    /** The number of nodes. */
+    public int size() {
+        return weights.length;
+    }
+
+    /** The configured weight of the given node. */
+    public double weight(int node) {
+        return weights[node];
+    }
+
+    /** Returns true if the given node is in the local zone. */
+    public boolean isLocal(int node) {
+        return local[node];
+    }
+
+    /** Samples a node, preferring local nodes as described above. Must not be called on an empty table. */
+    public int sample() {
+        return localTable != null ? localTable.sample() : sampleAny();
+    }
+
+    /** Samples a node from all zones. Must not be called on an empty table. */
+    public int sampleAny() {
+        Preconditions.checkState(allTable != null, "Cannot sample an empty table");
+        return allTable.sample();
+    }
+
+    private static final class AliasTable {
+        private final int[] nodes;
+        private final double[] probability;
+        private final int[] alias;
+
+        private AliasTable(int[] nodes, double[] probability, int[] alias) {
+            this.nodes = nodes;
+            this.probability = probability;
+            this.alias = alias;
+        }
+
+        /**
+         * Creates a table over the nodes included by the given mask (all if null) with positive weight, or returns null
+         * if there are none.
+         */
+        static AliasTable create(double[] weights, boolean[] mask) {
+            List<Integer> included = new ArrayList<>();
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                if ((mask == null || mask[i]) && weights[i] > 0) {
+                    included.add(i);
+                    total += weights[i];
+                }
+            }
+            int size = included.size();
+            if (size == 0) {
+                return null;
+            }
+            int[] nodes = new int[size];
+            double[] scaled = new double[size];
+            for (int i = 0; i < size; i++) {
+                nodes[i] = included.get(i);
+                scaled[i] = weights[nodes[i]] * size / total;
+            }
+            return build(nodes, scaled);
+        }
+
+        /** Creates a table sampling the given number of nodes uniformly, or returns null if there are none. */
+        static AliasTable uniform(int size) {
+            if (size == 0) {
+                return null;
+            }
+            int[] nodes = new int[size];
+            double[] scaled = new double[size];
+            for (int i = 0; i < size; i++) {
+                nodes[i] = i;
+                scaled[i] = 1;
+            }
+            return build(nodes, scaled);
+        }
+
+        /**
+         * Vose's alias method: pairs each underfull column with an overfull one, given the weights scaled such that
+         * they average to 1. Consumes the scaled weights.
+         */
+        private static AliasTable build(int[] nodes, double[] scaled) {
+            int size = nodes.length;
+            double[] probability = new double[size];
+            int[] alias = new int[size];
+            int[] small = new int[size];
+            int[] large = new int[size];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (scaled[i] < 1) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                probability[less] = scaled[less];
+                alias[less] = more;
+                scaled[more] = scaled[more] + scaled[less] - 1;
+                if (scaled[more] < 1) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // remaining columns are full, up to rounding errors
+            while (largeCount > 0) {
+                probability[large[--largeCount]] = 1;
+            }
+            while (smallCount > 0) {
+                probability[small[--smallCount]] = 1;
+            }
+            return new AliasTable(nodes, probability, alias);
+        }
+
+        int sample() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int column = random.nextInt(nodes.length);
+            return nodes[random.nextDouble() < probability[column] ? column : alias[column]];
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.conjure.java.api.errors.QosException;
+import com.palantir.conjure.java.api.errors.QosReason;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public final class BulkheadTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch blocker = new CountDownLatch(1);
+
+    @AfterEach
+    public void after() {
+        blocker.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void failsFastWhenSaturated() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(BulkheadConfiguration.of(2), executor);
+        CompletableFuture<String> first = bulkhead.submit(this::block);
+        CompletableFuture<String> second = bulkhead.submit(this::block);
+        assertThat(bulkhead.inFlight()).isEqualTo(2);
+
+        assertThat(bulkhead.submit(() -> "rejected"))
+                .failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOfSatisfying(QosException.Throttle.class, throttle -> assertThat(throttle.getReason())
+                        .isEqualTo(QosReason.of("bulkhead-full")));
+        assertThatThrownBy(() -> bulkhead.call(() -> "rejected")).isInstanceOf(QosException.Throttle.class);
+        assertThat(bulkhead.tryAcquire()).isFalse();
+
+        blocker.countDown();
+        assertThat(first.get()).isEqualTo("done");
+        assertThat(second.get()).isEqualTo("done");
+        assertThat(bulkhead.inFlight()).isZero();
+        assertThat(bulkhead.call(() -> "direct")).isEqualTo("direct");
+    }
+
+    @Test
+    public void queuesUpToQueueSize() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(
+                BulkheadConfiguration.builder()
+                        .maxConcurrentCalls(1)
+                        .queueSize(2)
+                        .build(),
+                executor);
+        List<Integer> completed = new CopyOnWriteArrayList<>();
+        CompletableFuture<String> running = bulkhead.submit(this::block);
+        CompletableFuture<Integer> firstQueued = bulkhead.submit(() -> {
+            completed.add(1);
+            return 1;
+        });
+        CompletableFuture<Integer> secondQueued = bulkhead.submit(() -> {
+            completed.add(2);
+            return 2;
+        });
+        assertThat(bulkhead.queued()).isEqualTo(2);
+        assertThat(bulkhead.submit(() -> 3)).isCompletedExceptionally();
+
+        blocker.countDown();
+        assertThat(running.get()).isEqualTo("done");
+        assertThat(firstQueued.get()).isEqualTo(1);
+        assertThat(secondQueued.get()).isEqualTo(2);
+        assertThat(completed).containsExactly(1, 2);
+        assertThat(bulkhead.queued()).isZero();
+    }
+
+    @Test
+    public void skipsCancelledQueuedCalls() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(
+                BulkheadConfiguration.builder()
+                        .maxConcurrentCalls(1)
+                        .queueSize(1)
+                        .build(),
+                executor);
+        CompletableFuture<String> running = bulkhead.submit(this::block);
+        CompletableFuture<String> queued = bulkhead.submit(() -> {
+            throw new AssertionError("cancelled call must not run");
+        });
+        queued.cancel(false);
+
+        blocker.countDown();
+        running.get();
+        assertThat(bulkhead.submit(() -> "after").get()).isEqualTo("after");
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    public void propagatesFailures() {
+        Bulkhead bulkhead = Bulkhead.of(BulkheadConfiguration.of(1), executor);
+        assertThat(bulkhead.submit(() -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .failsWithin(10, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    public void failsFastWhenExecutorRejects() {
+        Bulkhead bulkhead = Bulkhead.of(BulkheadConfiguration.of(2), _task -> {
+            throw new RejectedExecutionException();
+        });
+        AtomicBoolean ran = new AtomicBoolean();
+        assertThat(bulkhead.submit(() -> ran.getAndSet(true)))
+                .failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(QosException.Throttle.class);
+        assertThat(ran).isFalse();
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    public void failsFastOnceClosed() {
+        Bulkhead bulkhead = Bulkhead.of(BulkheadConfiguration.builder()
+                .maxConcurrentCalls(1)
+                .queueSize(1)
+                .build());
+        AtomicBoolean ran = new AtomicBoolean();
+        CompletableFuture<String> running = bulkhead.submit(this::block);
+        CompletableFuture<Boolean> queued = bulkhead.submit(() -> ran.getAndSet(true));
+        bulkhead.close();
+
+        assertThat(bulkhead.submit(() -> ran.getAndSet(true)))
+                .failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(QosException.Throttle.class);
+        blocker.countDown();
+        assertThat(running).succeedsWithin(10, TimeUnit.SECONDS).isEqualTo("done");
+        assertThat(queued)
+                .failsWithin(10, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(QosException.Throttle.class);
+        assertThat(ran).isFalse();
+        assertThat(bulkhead.inFlight()).isZero();
+        assertThat(bulkhead.queued()).isZero();
+    }
+
+    @Test
+    public void createsExecutorOfConfiguredKind() throws Exception {
+        for (BulkheadConfiguration.ExecutorKind kind : BulkheadConfiguration.ExecutorKind.values()) {
+            try (Bulkhead bulkhead = Bulkhead.of(BulkheadConfiguration.builder()
+                    .maxConcurrentCalls(4)
+                    .executor(kind)
+                    .build())) {
+                assertThat(bulkhead.submit(() -> Thread.currentThread().isDaemon() || isVirtual())
+                                .get(10, TimeUnit.SECONDS))
+                        .isTrue();
+            }
+        }
+    }
+
+    private String block() throws InterruptedException {
+        blocker.await();
+        return "done";
+    }
+
+    private static boolean isVirtual() {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
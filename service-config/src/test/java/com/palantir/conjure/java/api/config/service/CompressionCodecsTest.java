@@ -0,0 +1,234 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public final class CompressionCodecsTest {
+
+    private static final byte[] PAYLOAD = payload();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "deflate"})
+    public void roundTrips(String encoding) throws IOException {
+        CompressionAlgorithm algorithm = CompressionAlgorithm.fromString(encoding);
+        // repeatedly, to exercise pooled instances
+        for (int i = 0; i < 3; i++) {
+            byte[] compressed = compress(algorithm, PAYLOAD);
+            assertThat(compressed.length).isLessThan(PAYLOAD.length / 2);
+            try (InputStream in = CompressionCodecs.decompress(algorithm, new ByteArrayInputStream(compressed))) {
+                assertThat(in.readAllBytes()).isEqualTo(PAYLOAD);
+                assertThat(in.read()).isEqualTo(-1);
+            }
+        }
+    }
+
+    @Test
+    public void interoperatesWithJdkGzip() throws IOException {
+        try (InputStream in =
+                new GZIPInputStream(new ByteArrayInputStream(compress(CompressionAlgorithm.GZIP, PAYLOAD)))) {
+            assertThat(in.readAllBytes()).isEqualTo(PAYLOAD);
+        }
+
+        ByteArrayOutputStream jdkGzip = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(jdkGzip)) {
+            out.write(PAYLOAD);
+        }
+        assertThat(decompress(CompressionAlgorithm.GZIP, jdkGzip.toByteArray())).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    public void interoperatesWithJdkZlib() throws IOException {
+        try (InputStream in =
+                new InflaterInputStream(new ByteArrayInputStream(compress(CompressionAlgorithm.DEFLATE, PAYLOAD)))) {
+            assertThat(in.readAllBytes()).isEqualTo(PAYLOAD);
+        }
+    }
+
+    @Test
+    public void skipsOptionalGzipHeaderFields() throws IOException {
+        byte[] compressed = compress(CompressionAlgorithm.GZIP, PAYLOAD);
+        ByteArrayOutputStream withHeaderFields = new ByteArrayOutputStream();
+        withHeaderFields.write(compressed, 0, 3);
+        // FEXTRA | FNAME | FCOMMENT | FHCRC
+        withHeaderFields.write(4 | 8 | 16 | 2);
+        withHeaderFields.write(compressed, 4, 6);
+        withHeaderFields.write(new byte[] {3, 0, 'a', 'b', 'c'});
+        withHeaderFields.write("name\0comment\0".getBytes(StandardCharsets.US_ASCII));
+        withHeaderFields.write(new byte[] {0, 0});
+        withHeaderFields.write(compressed, 10, compressed.length - 10);
+        assertThat(decompress(CompressionAlgorithm.GZIP, withHeaderFields.toByteArray()))
+                .isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    public void detectsCorruptGzip() throws IOException {
+        byte[] compressed = compress(CompressionAlgorithm.GZIP, PAYLOAD);
+        compressed[compressed.length - 5]++;
+        assertThatThrownBy(() -> decompress(CompressionAlgorithm.GZIP, compressed))
+                .isInstanceOf(ZipException.class)
+                .hasMessage("Corrupt GZIP trailer");
+        assertThatThrownBy(() -> decompress(CompressionAlgorithm.GZIP, PAYLOAD))
+                .isInstanceOf(ZipException.class)
+                .hasMessage("Not in GZIP format");
+    }
+
+    @Test
+    public void releasesPooledInstancesWhenGzipHeaderFails() throws IOException {
+        // ensure pooled instances are idle, so that a leaked one shows as a smaller pool
+        decompress(CompressionAlgorithm.GZIP, compress(CompressionAlgorithm.GZIP, PAYLOAD));
+        int idleInflaters = CompressionCodecs.idleGzipInflaters();
+        assertThatThrownBy(() -> CompressionCodecs.decompress(
+                        CompressionAlgorithm.GZIP, new ByteArrayInputStream(new byte[] {0x1f})))
+                .isInstanceOf(EOFException.class);
+        assertThat(CompressionCodecs.idleGzipInflaters()).isEqualTo(idleInflaters);
+
+        int idleDeflaters = CompressionCodecs.idleGzipDeflaters();
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int _value) throws IOException {
+                throw new IOException("broken pipe");
+            }
+        };
+        assertThatThrownBy(() -> CompressionCodecs.compress(CompressionAlgorithm.GZIP, failing))
+                .isInstanceOf(IOException.class)
+                .hasMessage("broken pipe");
+        assertThat(CompressionCodecs.idleGzipDeflaters()).isEqualTo(idleDeflaters);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "deflate"})
+    public void closesUnderlyingStreamWhenFinishFails(String encoding) throws IOException {
+        AtomicBoolean broken = new AtomicBoolean();
+        AtomicBoolean closed = new AtomicBoolean();
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int _value) throws IOException {
+                if (broken.get()) {
+                    throw new IOException("broken pipe");
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                throw new IOException("close failed");
+            }
+        };
+        OutputStream out = CompressionCodecs.compress(CompressionAlgorithm.fromString(encoding), failing);
+        out.write(PAYLOAD);
+        broken.set(true);
+
+        assertThatThrownBy(out::close)
+                .isInstanceOf(IOException.class)
+                .hasMessage("broken pipe")
+                .satisfies(failure -> assertThat(failure.getSuppressed())
+                        .singleElement()
+                        .satisfies(suppressed -> assertThat(suppressed).hasMessage("close failed")));
+        assertThat(closed).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "deflate"})
+    public void rejectsUseAfterClose(String encoding) throws IOException {
+        CompressionAlgorithm algorithm = CompressionAlgorithm.fromString(encoding);
+        OutputStream out = CompressionCodecs.compress(algorithm, new ByteArrayOutputStream());
+        out.close();
+        assertThatThrownBy(() -> out.write(1)).isInstanceOf(IOException.class).hasMessage("Stream closed");
+        out.close();
+
+        InputStream in =
+                CompressionCodecs.decompress(algorithm, new ByteArrayInputStream(compress(algorithm, PAYLOAD)));
+        in.close();
+        assertThatThrownBy(in::read).isInstanceOf(IOException.class).hasMessage("Stream closed");
+        in.close();
+    }
+
+    @Test
+    public void rejectsUnknownAlgorithms() {
+        assertThat(CompressionAlgorithm.fromString("GZip")).isEqualTo(CompressionAlgorithm.GZIP);
+        assertThatLoggableExceptionThrownBy(() -> CompressionAlgorithm.fromString("br"))
+                .hasLogMessage("Unknown compression algorithm");
+        assertThatLoggableExceptionThrownBy(() -> CompressionAlgorithm.fromString("zstd"))
+                .hasLogMessage("Unknown compression algorithm");
+    }
+
+    @Test
+    public void negotiatesFromConfiguration() {
+        ServiceConfiguration.Builder builder = new ServiceConfiguration.Builder();
+        builder.security(SslConfiguration.of(Paths.get("trustStore.jks")));
+        ServiceConfiguration none = builder.build();
+        assertThat(CompressionCodecs.requestEncoding(none, 1_000_000)).isEmpty();
+        assertThat(CompressionCodecs.acceptEncoding(none)).isEmpty();
+
+        ServiceConfiguration config = builder.requestCompression(CompressionAlgorithm.GZIP)
+                .requestCompressionMinSize(1024)
+                .addAcceptCompression(CompressionAlgorithm.GZIP, CompressionAlgorithm.DEFLATE)
+                .build();
+        assertThat(CompressionCodecs.requestEncoding(config, 1023)).isEmpty();
+        assertThat(CompressionCodecs.requestEncoding(config, 1024)).contains(CompressionAlgorithm.GZIP);
+        assertThat(CompressionCodecs.requestEncoding(config, -1)).contains(CompressionAlgorithm.GZIP);
+        assertThat(CompressionCodecs.acceptEncoding(config)).contains("gzip, deflate");
+    }
+
+    private static byte[] compress(CompressionAlgorithm algorithm, byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = CompressionCodecs.compress(algorithm, bytes)) {
+            // write in pieces, including single bytes
+            out.write(data, 0, 100);
+            out.write(data[100]);
+            out.write(data, 101, data.length - 101);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] decompress(CompressionAlgorithm algorithm, byte[] data) throws IOException {
+        try (InputStream in = CompressionCodecs.decompress(algorithm, new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] payload() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            json.append("{\"id\":").append(random.nextInt(1000)).append(",\"name\":\"item\"},");
+        }
+        return json.append("{}]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
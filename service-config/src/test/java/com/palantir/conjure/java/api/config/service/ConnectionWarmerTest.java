@@ -0,0 +1,280 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.io.Resources;
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.CertificateFactory;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public final class ConnectionWarmerTest {
+
+    private static final Duration BUDGET = Duration.ofSeconds(30);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Queue<Socket> sockets = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger handshakes = new AtomicInteger();
+    private final Queue<String> connectRequests = new ConcurrentLinkedQueue<>();
+    private SSLServerSocket server;
+
+    @BeforeEach
+    public void before() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Resources.getResource("warmup/server.p12").openStream()) {
+            keyStore.load(in, "changeit".toCharArray());
+        }
+        KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagers.init(keyStore, "changeit".toCharArray());
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(keyManagers.getKeyManagers(), null, null);
+        server = (SSLServerSocket) context.getServerSocketFactory().createServerSocket(0);
+        serve(server, socket -> {
+            ((SSLSocket) socket).startHandshake();
+            handshakes.incrementAndGet();
+        });
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        executor.shutdownNow();
+        server.close();
+        for (Socket socket : sockets) {
+            if (!socket.isClosed()) {
+                // closing a TLS socket reads the peer's close_notify, which nothing sends once the executor stopped
+                socket.setSoTimeout(100);
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    public void warmsConnectionsToEachUri() {
+        ServiceConfiguration config = config(
+                "https://localhost:" + server.getLocalPort() + "/api", "https://127.0.0.1:" + server.getLocalPort());
+        ConnectionWarmer.Report report = warmer(config).warm(3, BUDGET);
+
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.uris()).hasSize(2);
+        for (ConnectionWarmer.UriReport uri : report.uris()) {
+            assertThat(uri.connectionTimes()).hasSize(3).allSatisfy(time -> assertThat(time)
+                    .isPositive());
+            assertThat(uri.failures()).isEmpty();
+            assertThat(uri.timedOut()).isZero();
+        }
+        assertThat(report.uris().get(0).uri()).isEqualTo(config.parsedUris().get(0));
+        awaitHandshakes(6);
+    }
+
+    @Test
+    public void warmsOnDefaultExecutor() {
+        ConnectionWarmer.Report report = ConnectionWarmer.of(
+                        config("https://localhost:" + server.getLocalPort()), socketFactory(), ProxySelector.of(null))
+                .warm(2, BUDGET);
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.uris().get(0).connectionTimes()).hasSize(2);
+        awaitHandshakes(2);
+    }
+
+    @Test
+    public void handsOverHandshakenConnections() {
+        Queue<Socket> connections = new ConcurrentLinkedQueue<>();
+        warmer(config("https://localhost:" + server.getLocalPort())).warm(2, BUDGET, connections::add);
+        assertThat(connections).hasSize(2).allSatisfy(socket -> {
+            assertThat(socket).isInstanceOf(SSLSocket.class);
+            assertThat(((SSLSocket) socket).getSession().isValid()).isTrue();
+            assertThat(socket.isClosed()).isFalse();
+        });
+        sockets.addAll(connections);
+    }
+
+    @Test
+    public void tunnelsThroughHttpProxy() throws IOException {
+        ServerSocket proxy = new ServerSocket(0);
+        serve(proxy, this::proxy);
+        ServiceConfiguration config = config("https://localhost:" + server.getLocalPort());
+        try (proxy) {
+            ConnectionWarmer.Report report = ConnectionWarmer.of(
+                            config,
+                            socketFactory(),
+                            ProxySelector.of(new InetSocketAddress("localhost", proxy.getLocalPort())),
+                            executor)
+                    .warm(1, BUDGET);
+            assertThat(report.uris().get(0).failures()).isEmpty();
+            assertThat(report.uris().get(0).connectionTimes()).hasSize(1);
+        }
+        assertThat(connectRequests)
+                .singleElement()
+                .asString()
+                .startsWith("CONNECT localhost:" + server.getLocalPort() + " HTTP/1.1\r\n");
+    }
+
+    @Test
+    public void failsWithoutPort() {
+        ConnectionWarmer.Report report =
+                warmer(config("h2c://localhost", "localhost")).warm(1, BUDGET);
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.uris())
+                .allSatisfy(uri -> assertThat(uri.failures()).singleElement().satisfies(failure -> assertThat(failure)
+                        .hasMessageStartingWith("Service URI has no port and its scheme has no default port")));
+    }
+
+    @Test
+    public void doesNotBlockBeyondBudget() throws IOException {
+        // accepts connections but never responds to the TLS handshake
+        ServerSocket blackHole = new ServerSocket(0);
+        serve(blackHole, _socket -> {});
+        try (blackHole) {
+            ConnectionWarmer.Report report = warmer(config("https://localhost:" + blackHole.getLocalPort()))
+                    .warm(2, Duration.ofMillis(200));
+            assertThat(report.isComplete()).isFalse();
+            assertThat(report.uris().get(0).timedOut()).isEqualTo(2);
+            assertThat(report.elapsed()).isLessThan(Duration.ofSeconds(10));
+        }
+    }
+
+    @Test
+    public void reportsFailures() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        ConnectionWarmer.Report report =
+                warmer(config("https://localhost:" + closedPort)).warm(2, BUDGET);
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.uris().get(0).failures()).hasSize(2);
+        assertThat(report.uris().get(0).connectionTimes()).isEmpty();
+    }
+
+    /** A minimal HTTP CONNECT proxy which records the requests and relays to the TLS server. */
+    private void proxy(Socket client) throws IOException {
+        InputStream in = client.getInputStream();
+        StringBuilder request = new StringBuilder();
+        while (!request.toString().endsWith("\r\n\r\n")) {
+            request.append((char) in.read());
+        }
+        connectRequests.add(request.toString());
+        Socket upstream = new Socket("localhost", server.getLocalPort());
+        sockets.add(upstream);
+        client.getOutputStream().write("HTTP/1.1 200 Connection established\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        executor.execute(() -> relay(upstream, client));
+        relay(client, upstream);
+    }
+
+    private static void relay(Socket from, Socket to) {
+        try {
+            InputStream in = from.getInputStream();
+            OutputStream out = to.getOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // connection closed
+        }
+    }
+
+    private void serve(ServerSocket serverSocket, Handler handler) {
+        executor.execute(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    sockets.add(socket);
+                    executor.execute(() -> {
+                        try {
+                            handler.handle(socket);
+                        } catch (IOException e) {
+                            // client went away
+                        }
+                    });
+                } catch (IOException e) {
+                    // server closed
+                }
+            }
+        });
+    }
+
+    private void awaitHandshakes(int expected) {
+        long deadline = System.nanoTime() + BUDGET.toNanos();
+        while (handshakes.get() < expected) {
+            assertThat(System.nanoTime()).as("timed out waiting for handshakes").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private ConnectionWarmer warmer(ServiceConfiguration config) {
+        return ConnectionWarmer.of(config, socketFactory(), ProxySelector.of(null), executor);
+    }
+
+    private static ServiceConfiguration config(String... uris) {
+        return ServiceConfiguration.builder()
+                .security(SslConfiguration.of(Paths.get("trustStore.jks")))
+                .addUris(uris)
+                .build();
+    }
+
+    /** Trusts the test certificate authority only, like a client configured with the service's trust store. */
+    private static SSLSocketFactory socketFactory() {
+        try (InputStream in = Resources.getResource("warmup/ca.pem").openStream()) {
+            KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            trustStore.load(null, null);
+            trustStore.setCertificateEntry(
+                    "ca", CertificateFactory.getInstance("X.509").generateCertificate(in));
+            TrustManagerFactory trustManagers =
+                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagers.init(trustStore);
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, trustManagers.getTrustManagers(), null);
+            return context.getSocketFactory();
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(Socket socket) throws IOException;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public final class DeadlineTest {
+
+    private final AtomicLong clock = new AtomicLong(Long.MAX_VALUE - 1000);
+
+    @Test
+    public void tracksRemainingBudget() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(100), clock::get);
+        assertThat(deadline.remaining()).isEqualTo(Duration.ofMillis(100));
+        assertThat(deadline.isExpired()).isFalse();
+
+        // the clock overflowing does not matter
+        clock.addAndGet(Duration.ofMillis(60).toNanos());
+        assertThat(deadline.remaining()).isEqualTo(Duration.ofMillis(40));
+        assertThat(deadline.bound(Duration.ofSeconds(1))).isEqualTo(Duration.ofMillis(40));
+        assertThat(deadline.bound(Duration.ofMillis(10))).isEqualTo(Duration.ofMillis(10));
+
+        clock.addAndGet(Duration.ofMillis(50).toNanos());
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remainingNanos()).isEqualTo(-Duration.ofMillis(10).toNanos());
+        assertThat(deadline.remaining()).isZero();
+        assertThat(deadline.toHeaderValue()).isEqualTo("0");
+    }
+
+    @Test
+    public void roundTripsThroughHeader() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(1500), clock::get);
+        clock.addAndGet(250_500_000);
+        assertThat(deadline.toHeaderValue()).isEqualTo("1249");
+
+        Deadline downstream =
+                Deadline.fromHeaderValue(deadline.toHeaderValue(), clock::get).orElseThrow();
+        assertThat(downstream.remaining()).isEqualTo(Duration.ofMillis(1249));
+    }
+
+    @Test
+    public void ignoresMalformedHeaders() {
+        for (String value : new String[] {null, "", "-1", "+1", "1.5", "1s", " 1", "1234567890123456789"}) {
+            assertThat(Deadline.fromHeaderValue(value)).as(value).isEmpty();
+        }
+        assertThat(Deadline.fromHeaderValue("123456789012345678")).isPresent();
+    }
+
+    @Test
+    public void derivesBudgetFromTimeouts() {
+        ServiceConfiguration.Builder builder = new ServiceConfiguration.Builder();
+        builder.security(SslConfiguration.of(Paths.get("trustStore.jks")));
+        assertThat(Deadline.forRequest(builder.build())).isEmpty();
+
+        builder.connectTimeout(Duration.ofSeconds(10)).readTimeout(Duration.ofMinutes(1));
+        Duration remaining = Deadline.forRequest(builder.build()).orElseThrow().remaining();
+        assertThat(remaining).isBetween(Duration.ofSeconds(60), Duration.ofSeconds(70));
+    }
+
+    @Test
+    public void choosesEarlierDeadline() {
+        Deadline early = Deadline.after(Duration.ofMillis(10), clock::get);
+        Deadline late = Deadline.after(Duration.ofMillis(20), clock::get);
+        assertThat(early.min(late)).isSameAs(early);
+        assertThat(late.min(early)).isSameAs(early);
+    }
+
+    @Test
+    public void rejectsNegativeBudget() {
+        assertThatLoggableExceptionThrownBy(() -> Deadline.after(Duration.ofMillis(-1)))
+                .hasLogMessage("budget must not be negative");
+    }
+}
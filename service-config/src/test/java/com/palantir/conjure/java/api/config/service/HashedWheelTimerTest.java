@@ -0,0 +1,123 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public final class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = HashedWheelTimer.create(Duration.ofMillis(1), 4);
+
+    @AfterEach
+    public void after() {
+        timer.close();
+    }
+
+    @Test
+    public void runsTaskAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        HashedWheelTimer.Timeout timeout = timer.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start)
+                .isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    public void runsTasksSpanningSeveralRevolutions() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            timer.schedule(latch::countDown, i % 13, TimeUnit.MILLISECONDS);
+        }
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void cancelledTasksDoNotRun() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        HashedWheelTimer.Timeout cancelledBeforeLinked = timer.schedule(() -> ran.set(true), Duration.ofMillis(10));
+        assertThat(cancelledBeforeLinked.cancel()).isTrue();
+
+        HashedWheelTimer.Timeout cancelledAfterLinked = timer.schedule(() -> ran.set(true), Duration.ofMillis(30));
+        Thread.sleep(5);
+        assertThat(cancelledAfterLinked.cancel()).isTrue();
+        assertThat(cancelledAfterLinked.cancel()).isFalse();
+        assertThat(timer.pendingTimeouts()).isZero();
+
+        CountDownLatch later = new CountDownLatch(1);
+        timer.schedule(later::countDown, Duration.ofMillis(50));
+        assertThat(later.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).isFalse();
+        assertThat(cancelledBeforeLinked.isCancelled()).isTrue();
+        assertThat(cancelledAfterLinked.isExpired()).isFalse();
+    }
+
+    @Test
+    public void survivesFailingTasks() throws InterruptedException {
+        timer.schedule(
+                () -> {
+                    throw new IllegalStateException("boom");
+                },
+                Duration.ZERO);
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(latch::countDown, Duration.ofMillis(5));
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void closesOnError() throws InterruptedException {
+        timer.schedule(
+                () -> {
+                    throw new StackOverflowError("boom");
+                },
+                Duration.ZERO);
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (true) {
+            try {
+                timer.schedule(() -> {}, Duration.ZERO);
+            } catch (SafeIllegalStateException e) {
+                assertThat(e).hasMessageContaining("Timer has been closed");
+                return;
+            }
+            assertThat(System.nanoTime()).as("timed out waiting for close").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void validatesArguments() {
+        assertThatLoggableExceptionThrownBy(() -> HashedWheelTimer.create(Duration.ofMillis(1), 3))
+                .hasLogMessage("wheelSize must be a positive power of two");
+        assertThatLoggableExceptionThrownBy(() -> HashedWheelTimer.create(Duration.ZERO, 4))
+                .hasLogMessage("tick must be positive");
+        timer.close();
+        assertThatLoggableExceptionThrownBy(() -> timer.schedule(() -> {}, Duration.ZERO))
+                .hasLogMessage("Timer has been closed");
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public final class HedgingExecutorTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void after() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void validatesConfiguration() {
+        assertThatLoggableExceptionThrownBy(() -> HedgingConfiguration.builder().build())
+                .hasLogMessage("Hedging requires a delay or a delay-percentile");
+        assertThatLoggableExceptionThrownBy(() -> HedgingConfiguration.ofPercentile(100))
+                .hasLogMessage("delay-percentile must be between 0 and 100 exclusive");
+        assertThatLoggableExceptionThrownBy(() -> HedgingConfiguration.builder()
+                        .delay(HumanReadableDuration.milliseconds(10))
+                        .budgetPercent(101)
+                        .build())
+                .hasLogMessage("budget-percent must be between 0 and 100");
+    }
+
+    @Test
+    public void doesNotHedgeFastCalls() throws Exception {
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.milliseconds(10))
+                .budgetPercent(100)
+                .build());
+        CompletableFuture<String> result = executor.execute(attempt -> CompletableFuture.completedFuture("primary"));
+        assertThat(result.get()).isEqualTo("primary");
+        Thread.sleep(50);
+        assertThat(executor.hedgeCount()).isZero();
+    }
+
+    @Test
+    public void hedgeWinsAndCancelsPrimary() throws Exception {
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.milliseconds(10))
+                .budgetPercent(100)
+                .build());
+        CompletableFuture<String> result = executor.execute(this::attempt);
+        awaitAttempts(2);
+        attempts.get(1).complete("backup");
+
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("backup");
+        assertThat(attempts.get(0)).isCancelled();
+        assertThat(executor.hedgeCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void primaryWinsAndCancelsHedge() throws Exception {
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.milliseconds(10))
+                .budgetPercent(100)
+                .build());
+        CompletableFuture<String> result = executor.execute(this::attempt);
+        awaitAttempts(2);
+        attempts.get(0).complete("primary");
+
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("primary");
+        assertThat(attempts.get(1)).isCancelled();
+    }
+
+    @Test
+    public void failsOnlyOnceAllAttemptsFailed() throws Exception {
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.milliseconds(10))
+                .budgetPercent(100)
+                .build());
+        CompletableFuture<String> result = executor.execute(this::attempt);
+        awaitAttempts(2);
+        attempts.get(0).completeExceptionally(new IOException("primary"));
+        assertThat(result).isNotDone();
+
+        IOException backupFailure = new IOException("backup");
+        attempts.get(1).completeExceptionally(backupFailure);
+        assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(backupFailure);
+    }
+
+    @Test
+    public void doesNotHedgeAfterPrimaryFailure() throws Exception {
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.milliseconds(10))
+                .budgetPercent(100)
+                .build());
+        CompletableFuture<String> result =
+                executor.execute(attempt -> CompletableFuture.failedFuture(new IOException("primary")));
+        assertThat(result).isCompletedExceptionally();
+        Thread.sleep(50);
+        assertThat(executor.hedgeCount()).isZero();
+    }
+
+    @Test
+    public void boundsHedgesByBudget() throws Exception {
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.milliseconds(1))
+                .budgetPercent(50)
+                .build());
+        List<CompletableFuture<String>> results = List.of(
+                executor.execute(this::attempt), executor.execute(this::attempt), executor.execute(this::attempt));
+        // 3 calls earn 1.5 tokens, which pays for a single hedge
+        awaitAttempts(4);
+        Thread.sleep(50);
+        assertThat(attempts).hasSize(4);
+        assertThat(executor.hedgeCount()).isEqualTo(1);
+        results.forEach(result -> result.cancel(false));
+        assertThat(attempts).allMatch(CompletableFuture::isCancelled);
+    }
+
+    @Test
+    public void adaptsDelayToLatencyPercentile() {
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.seconds(1))
+                .delayPercentile(50)
+                .build());
+        assertThat(executor.delayNanos()).isEqualTo(Duration.ofSeconds(1).toNanos());
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(attempt -> CompletableFuture.completedFuture("primary"));
+        }
+        // completed futures take no time at all
+        assertThat(executor.delayNanos()).isLessThan(Duration.ofMillis(100).toNanos());
+    }
+
+    @Test
+    public void recordsLatencyOfCallsWonByBackupFromPrimaryStart() throws Exception {
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.milliseconds(1))
+                .delayPercentile(50)
+                .budgetPercent(100)
+                .build());
+        for (int batch = 0; batch < 100; batch++) {
+            // every call earns the token for its own hedge, and every backup completes immediately
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.execute(attempt ->
+                        attempt == 0 ? new CompletableFuture<>() : CompletableFuture.completedFuture("backup")));
+            }
+            results.forEach(CompletableFuture::join);
+        }
+        assertThat(executor.hedgeCount()).isEqualTo(1000);
+        // the last call records its latency only after completing
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (executor.delayNanos() == Duration.ofMillis(1).toNanos()) {
+            assertThat(System.nanoTime()).as("timed out waiting for delay").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+        assertThat(executor.delayNanos())
+                .isGreaterThanOrEqualTo(Duration.ofMillis(1).toNanos());
+    }
+
+    @Test
+    public void startsBackupsOnExecutor() throws Exception {
+        Thread schedulerThread = scheduler.submit(Thread::currentThread).get();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        HedgingExecutor executor = executor(HedgingConfiguration.builder()
+                .delay(HumanReadableDuration.milliseconds(1))
+                .budgetPercent(100)
+                .build());
+        executor.execute(index -> {
+            threads.add(Thread.currentThread());
+            return attempt(index);
+        });
+        awaitAttempts(2);
+
+        assertThat(threads).hasSize(2).doesNotContain(schedulerThread);
+    }
+
+    @Test
+    public void histogramBucketsAreAccurate() {
+        for (long value : new long[] {0, 1, 7, 8, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+            long upperBound = LatencyHistogram.upperBound(LatencyHistogram.bucket(value));
+            assertThat(upperBound).isGreaterThanOrEqualTo(value);
+            assertThat(upperBound - value).isLessThanOrEqualTo(value / 8);
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.percentile(50)).isEqualTo(-1);
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertThat(histogram.percentile(50)).isBetween(50_000L, 56_250L);
+        assertThat(histogram.percentile(99)).isBetween(99_000L, 111_375L);
+    }
+
+    private CompletableFuture<String> attempt(int _index) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        attempts.add(future);
+        return future;
+    }
+
+    private void awaitAttempts(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (attempts.size() < count) {
+            assertThat(System.nanoTime()).as("timed out waiting for attempts").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private HedgingExecutor executor(HedgingConfiguration config) {
+        return HedgingExecutor.of(config, scheduler);
+    }
+}
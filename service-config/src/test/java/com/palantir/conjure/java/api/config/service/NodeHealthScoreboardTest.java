@@ -0,0 +1,238 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.palantir.conjure.java.api.errors.ErrorType;
+import com.palantir.conjure.java.api.errors.QosException;
+import com.palantir.conjure.java.api.errors.RemoteException;
+import com.palantir.conjure.java.api.errors.SerializableError;
+import com.palantir.conjure.java.api.errors.ServiceException;
+import com.palantir.conjure.java.api.errors.UnknownRemoteException;
+import com.palantir.logsafe.SafeArg;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public final class NodeHealthScoreboardTest {
+
+    private static final Duration EJECTION = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void weighsFailures() throws MalformedURLException {
+        assertThat(NodeHealthScoreboard.failureWeight(QosException.unavailable()))
+                .isEqualTo(1);
+        assertThat(NodeHealthScoreboard.failureWeight(QosException.throttle())).isEqualTo(0.5);
+        assertThat(NodeHealthScoreboard.failureWeight(QosException.retryOther(new URL("https://other"))))
+                .isZero();
+        assertThat(NodeHealthScoreboard.failureWeight(remote(ErrorType.INTERNAL)))
+                .isEqualTo(1);
+        assertThat(NodeHealthScoreboard.failureWeight(remote(ErrorType.INVALID_ARGUMENT)))
+                .isZero();
+        assertThat(NodeHealthScoreboard.failureWeight(remote(ErrorType.NOT_FOUND)))
+                .isZero();
+        assertThat(NodeHealthScoreboard.failureWeight(new UnknownRemoteException(502, "bad gateway")))
+                .isEqualTo(1);
+        assertThat(NodeHealthScoreboard.failureWeight(new UnknownRemoteException(400, "bad request")))
+                .isZero();
+        assertThat(NodeHealthScoreboard.failureWeight(new IOException("connection reset")))
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void throttlingAloneDoesNotEject() {
+        NodeHealthScoreboard scoreboard = scoreboard(2, 0.5, 50);
+        for (int i = 0; i < 100; i++) {
+            scoreboard.recordFailure(0, QosException.throttle(), 1);
+        }
+        assertThat(scoreboard.isEjected(0)).isFalse();
+        assertThat(scoreboard.failureScore(0)).isCloseTo(0.5, within(1e-3));
+
+        scoreboard.recordFailure(0, QosException.unavailable(), 1);
+        assertThat(scoreboard.isEjected(0)).isTrue();
+    }
+
+    @Test
+    public void tracksMovingAverages() {
+        NodeHealthScoreboard scoreboard = scoreboard(2, 1.0, 50);
+        assertThat(scoreboard.failureScore(0)).isZero();
+        assertThat(scoreboard.latencyNanos(0)).isZero();
+
+        scoreboard.recordSuccess(0, 1000);
+        assertThat(scoreboard.latencyNanos(0)).isEqualTo(1000);
+        assertThat(scoreboard.failureScore(0)).isZero();
+
+        scoreboard.recordFailure(0, new IOException(), 2000);
+        assertThat(scoreboard.latencyNanos(0)).isEqualTo(1100);
+        assertThat(scoreboard.failureScore(0)).isCloseTo(0.1, within(1e-9));
+
+        scoreboard.recordFailure(0, remote(ErrorType.INVALID_ARGUMENT), 1100);
+        assertThat(scoreboard.failureScore(0)).isCloseTo(0.09, within(1e-9));
+
+        assertThat(scoreboard.failureScore(1)).isZero();
+        assertThat(scoreboard.latencyNanos(1)).isZero();
+    }
+
+    @Test
+    public void ejectsAndReadmitsFailingNode() {
+        NodeHealthScoreboard scoreboard = scoreboard(2, 0.5, 50);
+        int failures = 0;
+        while (!scoreboard.isEjected(0)) {
+            scoreboard.recordFailure(0, QosException.unavailable(), 1);
+            failures++;
+        }
+        // 1 - 0.9^n >= 0.5
+        assertThat(failures).isEqualTo(7);
+        assertThat(scoreboard.ejectedCount()).isEqualTo(1);
+        assertThat(scoreboard.isEjected(1)).isFalse();
+
+        clock.addAndGet(EJECTION.toNanos() - 1);
+        assertThat(scoreboard.isEjected(0)).isTrue();
+
+        clock.incrementAndGet();
+        assertThat(scoreboard.isEjected(0)).isFalse();
+        assertThat(scoreboard.ejectedCount()).isZero();
+        assertThat(scoreboard.failureScore(0)).isZero();
+    }
+
+    @Test
+    public void boundsEjectedNodes() {
+        NodeHealthScoreboard scoreboard = scoreboard(4, 0.5, 50);
+        for (int i = 0; i < 20; i++) {
+            for (int node = 0; node < 4; node++) {
+                scoreboard.recordFailure(node, QosException.unavailable(), 1);
+            }
+        }
+        assertThat(scoreboard.ejectedCount()).isEqualTo(2);
+        assertThat(List.of(
+                        scoreboard.isEjected(0),
+                        scoreboard.isEjected(1),
+                        scoreboard.isEjected(2),
+                        scoreboard.isEjected(3)))
+                .containsExactly(true, true, false, false);
+    }
+
+    @Test
+    public void neverEjectsWithZeroPercent() {
+        NodeHealthScoreboard scoreboard = scoreboard(3, 0.5, 0);
+        for (int i = 0; i < 20; i++) {
+            scoreboard.recordFailure(0, QosException.unavailable(), 1);
+        }
+        assertThat(scoreboard.isEjected(0)).isFalse();
+        assertThat(scoreboard.failureScore(0)).isGreaterThan(0.5);
+    }
+
+    @Test
+    public void selectorSkipsEjectedNodes() {
+        List<ServiceUri> nodes = List.of(
+                ServiceUri.fromString("https://a"),
+                ServiceUri.fromString("https://b"),
+                ServiceUri.fromString("https://c"));
+        NodeHealthScoreboard scoreboard = scoreboard(3, 0.5, 50);
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.ROUND_ROBIN, nodes, scoreboard);
+        while (!scoreboard.isEjected(1)) {
+            scoreboard.recordFailure(1, QosException.unavailable(), 1);
+        }
+        for (int i = 0; i < 30; i++) {
+            int node = selector.select();
+            selector.complete(node, true);
+            assertThat(node).isNotEqualTo(1);
+        }
+
+        clock.addAndGet(EJECTION.toNanos());
+        boolean selectedReadmitted = false;
+        for (int i = 0; i < 3; i++) {
+            int node = selector.select();
+            selector.complete(node, true);
+            selectedReadmitted |= node == 1;
+        }
+        assertThat(selectedReadmitted).isTrue();
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = NodeSelectionStrategy.class,
+            names = {"LEAST_OUTSTANDING_REQUESTS", "POWER_OF_TWO_CHOICES"})
+    public void selectorSpreadsShareOfEjectedNode(NodeSelectionStrategy strategy) {
+        List<ServiceUri> nodes = List.of(
+                ServiceUri.fromString("https://a"),
+                ServiceUri.fromString("https://b"),
+                ServiceUri.fromString("https://c"),
+                ServiceUri.fromString("https://d"));
+        NodeHealthScoreboard scoreboard = scoreboard(4, 0.5, 50);
+        NodeSelector selector = NodeSelector.of(strategy, nodes, scoreboard);
+        while (!scoreboard.isEjected(1)) {
+            scoreboard.recordFailure(1, QosException.unavailable(), 1);
+        }
+        int[] selected = new int[nodes.size()];
+        for (int i = 0; i < 3000; i++) {
+            int node = selector.select();
+            selector.complete(node, true);
+            selected[node]++;
+        }
+        assertThat(selected[1]).isZero();
+        assertThat(selected[0]).isBetween(800, 1200);
+        assertThat(selected[2]).isBetween(800, 1200);
+        assertThat(selected[3]).isBetween(800, 1200);
+    }
+
+    @Test
+    public void selectorPrefersLowerLatencyAmongEquallyLoadedNodes() {
+        List<ServiceUri> nodes = List.of(
+                ServiceUri.fromString("https://a"),
+                ServiceUri.fromString("https://b"),
+                ServiceUri.fromString("https://c"));
+        NodeHealthScoreboard scoreboard = scoreboard(3, 0.5, 50);
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.LEAST_OUTSTANDING_REQUESTS, nodes, scoreboard);
+        scoreboard.recordSuccess(0, 3000);
+        scoreboard.recordSuccess(1, 1000);
+        scoreboard.recordSuccess(2, 2000);
+        assertThat(selector.select()).isEqualTo(1);
+        assertThat(selector.select()).isEqualTo(2);
+        assertThat(selector.select()).isEqualTo(0);
+    }
+
+    @Test
+    public void selectorRequiresMatchingScoreboard() {
+        assertThatLoggableExceptionThrownBy(() -> NodeSelector.of(
+                        NodeSelectionStrategy.ROUND_ROBIN,
+                        List.of(ServiceUri.fromString("https://a")),
+                        NodeHealthScoreboard.create(2)))
+                .hasLogMessage("Scoreboard must track the same number of nodes")
+                .hasExactlyArgs(SafeArg.of("nodes", 1), SafeArg.of("scoreboardNodes", 2));
+    }
+
+    private NodeHealthScoreboard scoreboard(int nodes, double threshold, int maxEjectionPercent) {
+        return new NodeHealthScoreboard(nodes, threshold, maxEjectionPercent, EJECTION, clock::get);
+    }
+
+    private static RemoteException remote(ErrorType errorType) {
+        return new RemoteException(
+                SerializableError.forException(new ServiceException(errorType)), errorType.httpErrorCode());
+    }
+}
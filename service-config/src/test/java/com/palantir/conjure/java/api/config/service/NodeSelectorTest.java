@@ -0,0 +1,130 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public final class NodeSelectorTest {
+
+    private static final List<ServiceUri> NODES = List.of(
+            ServiceUri.fromString("https://node0"),
+            ServiceUri.fromString("https://node1"),
+            ServiceUri.fromString("https://node2"));
+
+    @Test
+    public void roundRobinCyclesThroughNodes() {
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.ROUND_ROBIN, NODES);
+        List<Integer> selected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int node = selector.select();
+            selected.add(node);
+            selector.complete(node, true);
+        }
+        assertThat(selected).containsExactly(0, 1, 2, 0, 1, 2);
+    }
+
+    @Test
+    public void pinUntilErrorMovesOnFailure() {
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.PIN_UNTIL_ERROR, NODES);
+        int pinned = selector.select();
+        selector.complete(pinned, true);
+        for (int i = 0; i < 10; i++) {
+            int node = selector.select();
+            assertThat(node).isEqualTo(pinned);
+            selector.complete(node, true);
+        }
+
+        int failed = selector.select();
+        selector.complete(failed, false);
+        assertThat(selector.select()).isEqualTo((pinned + 1) % NODES.size());
+    }
+
+    @Test
+    public void pinUntilErrorIgnoresFailuresOfPreviouslyPinnedNodes() {
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.PIN_UNTIL_ERROR, NODES);
+        int first = selector.select();
+        int concurrent = selector.select();
+        selector.complete(first, false);
+        selector.complete(concurrent, false);
+        assertThat(selector.select()).isEqualTo((first + 1) % NODES.size());
+    }
+
+    @Test
+    public void leastOutstandingRequestsPicksLeastLoadedNode() {
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.LEAST_OUTSTANDING_REQUESTS, NODES);
+        // Three concurrent requests are spread across all nodes.
+        List<Integer> selected =
+                IntStream.range(0, 3).map(_i -> selector.select()).boxed().toList();
+        assertThat(selected).containsExactlyInAnyOrder(0, 1, 2);
+
+        selector.complete(1, true);
+        assertThat(selector.select()).isEqualTo(1);
+    }
+
+    @Test
+    public void powerOfTwoChoicesAvoidsMostLoadedNode() {
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.POWER_OF_TWO_CHOICES, NODES);
+        List<Integer> selected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            selected.add(selector.select());
+        }
+        // The more loaded of two nodes is never chosen, so load stays close to balanced.
+        for (int node = 0; node < NODES.size(); node++) {
+            assertThat(selector.inFlight(node)).isBetween(25, 42);
+        }
+        selected.forEach(node -> selector.complete(node, true));
+    }
+
+    @ParameterizedTest
+    @EnumSource(NodeSelectionStrategy.class)
+    public void tracksInFlightRequests(NodeSelectionStrategy strategy) {
+        NodeSelector selector = NodeSelector.of(strategy, NODES);
+        assertThat(selector.nodes()).isEqualTo(NODES);
+        int first = selector.select();
+        int second = selector.select();
+        assertThat(IntStream.range(0, NODES.size()).map(selector::inFlight).sum())
+                .isEqualTo(2);
+        selector.complete(first, true);
+        selector.complete(second, false);
+        assertThat(IntStream.range(0, NODES.size()).map(selector::inFlight)).containsOnly(0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(NodeSelectionStrategy.class)
+    public void supportsSingleNode(NodeSelectionStrategy strategy) {
+        NodeSelector selector = NodeSelector.of(strategy, NODES.subList(0, 1));
+        for (int i = 0; i < 3; i++) {
+            assertThat(selector.select()).isZero();
+            selector.complete(0, i % 2 == 0);
+        }
+    }
+
+    @Test
+    public void requiresNodes() {
+        assertThatLoggableExceptionThrownBy(() -> NodeSelector.of(NodeSelectionStrategy.ROUND_ROBIN, List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasLogMessage("At least one node is required");
+    }
+}
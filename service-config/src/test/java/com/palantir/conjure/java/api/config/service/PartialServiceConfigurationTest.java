@@ -42,6 +42,43 @@ public final class PartialServiceConfigurationTest {
                 .backoffSlotSize(HumanReadableDuration.days(1))
                 .addUris("uri1")
                 .proxyConfiguration(ProxyConfiguration.of("host:80"))
+                .maxConnections(100)
+                .maxConnectionsPerHost(10)
+                .idleConnectionTimeout(HumanReadableDuration.minutes(1))
+                .connectionTimeToLive(HumanReadableDuration.minutes(5))
+                .http2MaxConcurrentStreams(100)
+                .http2InitialStreamWindowSize(1 << 20)
+                .http2InitialConnectionWindowSize(1 << 24)
+                .http2MaxFrameSize(1 << 15)
+                .putEndpoints(
+                        "batch",
+                        PartialEndpointConfiguration.builder()
+                                .readTimeout(HumanReadableDuration.minutes(5))
+                                .maxNumRetries(0)
+                                .build())
+                .hedging(HedgingConfiguration.of(HumanReadableDuration.milliseconds(50)))
+                .requestCompression(CompressionAlgorithm.GZIP)
+                .addAcceptCompression(CompressionAlgorithm.DEFLATE, CompressionAlgorithm.GZIP)
+                .requestCompressionMinSize(1024)
+                .addStructuredUris(UriConfiguration.builder()
+                        .uri("uri2")
+                        .zone("us-east-1a")
+                        .weight(2)
+                        .build())
+                .slowStartWindow(HumanReadableDuration.seconds(30))
+                .bulkhead(BulkheadConfiguration.builder()
+                        .maxConcurrentCalls(20)
+                        .queueSize(5)
+                        .executor(BulkheadConfiguration.ExecutorKind.VIRTUAL)
+                        .build())
+                .responseCache(ResponseCacheConfiguration.builder()
+                        .maxEntries(500)
+                        .maxBytes(1048576L)
+                        .ttl(HumanReadableDuration.minutes(5))
+                        .staleWhileRevalidate(HumanReadableDuration.seconds(30))
+                        .offHeap(true)
+                        .build())
+                .retryBudgetRatio(0.2)
                 .build();
         String camelCase = "{\"apiToken\":\"bearerToken\",\"security\":"
                 + "{\"trustStorePath\":\"truststore.jks\",\"trustStoreType\":\"JKS\",\"keyStorePath\":null,"
@@ -50,7 +87,19 @@ public final class PartialServiceConfigurationTest {
                 + "\"maxNumRetries\":5,\"backoffSlotSize\":\"1 day\","
                 + "\"enableGcmCipherSuites\":null,\"enableHttp2\":null,\"fallbackToCommonNameVerification\":null,"
                 + "\"proxyConfiguration\":{\"hostAndPort\":\"host:80\",\"credentials\":null,"
-                + "\"type\":\"HTTP\"}}";
+                + "\"type\":\"HTTP\"},\"maxConnections\":100,\"maxConnectionsPerHost\":10,"
+                + "\"idleConnectionTimeout\":\"1 minute\",\"connectionTimeToLive\":\"5 minutes\","
+                + "\"http2MaxConcurrentStreams\":100,\"http2InitialStreamWindowSize\":1048576,"
+                + "\"http2InitialConnectionWindowSize\":16777216,\"http2MaxFrameSize\":32768,"
+                + "\"endpoints\":{\"batch\":{\"readTimeout\":\"5 minutes\",\"writeTimeout\":null,"
+                + "\"maxNumRetries\":0,\"backoffSlotSize\":null}},\"hedging\":{\"delay\":\"50 milliseconds\","
+                + "\"delayPercentile\":null,\"budgetPercent\":10.0},\"requestCompression\":\"gzip\","
+                + "\"acceptCompression\":[\"deflate\",\"gzip\"],\"requestCompressionMinSize\":1024,"
+                + "\"structuredUris\":[{\"uri\":\"uri2\",\"zone\":\"us-east-1a\",\"weight\":2.0}],"
+                + "\"slowStartWindow\":\"30 seconds\",\"bulkhead\":{\"maxConcurrentCalls\":20,\"queueSize\":5,"
+                + "\"executor\":\"VIRTUAL\"},\"responseCache\":{\"maxEntries\":500,\"maxBytes\":1048576,"
+                + "\"ttl\":\"5 minutes\",\"staleWhileRevalidate\":\"30 seconds\",\"offHeap\":true},"
+                + "\"retryBudgetRatio\":0.2}";
         String kebabCase = "{\"api-token\":\"bearerToken\",\"security\":"
                 + "{\"trust-store-path\":\"truststore.jks\",\"trust-store-type\":\"JKS\",\"key-store-path\":null,"
                 + "\"key-store-password\":null,\"key-store-type\":\"JKS\",\"key-store-key-alias\":null},"
@@ -58,7 +107,19 @@ public final class PartialServiceConfigurationTest {
                 + "\"max-num-retries\":5,\"backoff-slot-size\":\"1 day\","
                 + "\"uris\":[\"uri1\"],\"proxy-configuration\":{\"host-and-port\":\"host:80\",\"credentials\":null},"
                 + "\"enable-gcm-cipher-suites\":null,\"enable-http2\":null,"
-                + "\"fallback-to-common-name-verification\":null}";
+                + "\"fallback-to-common-name-verification\":null,\"max-connections\":100,"
+                + "\"max-connections-per-host\":10,\"idle-connection-timeout\":\"1 minute\","
+                + "\"connection-time-to-live\":\"5 minutes\",\"http2-max-concurrent-streams\":100,"
+                + "\"http2-initial-stream-window-size\":1048576,\"http2-initial-connection-window-size\":16777216,"
+                + "\"http2-max-frame-size\":32768,"
+                + "\"endpoints\":{\"batch\":{\"read-timeout\":\"5 minutes\",\"max-num-retries\":0}},"
+                + "\"hedging\":{\"delay\":\"50 milliseconds\"},\"request-compression\":\"GZIP\","
+                + "\"accept-compression\":[\"deflate\",\"gzip\"],\"request-compression-min-size\":1024,"
+                + "\"structured-uris\":[{\"uri\":\"uri2\",\"zone\":\"us-east-1a\",\"weight\":2}],"
+                + "\"slow-start-window\":\"30 seconds\",\"bulkhead\":{\"max-concurrent-calls\":20,\"queue-size\":5,"
+                + "\"executor\":\"VIRTUAL\"},\"response-cache\":{\"max-entries\":500,\"max-bytes\":1048576,"
+                + "\"ttl\":\"5 minutes\",\"stale-while-revalidate\":\"30 seconds\",\"off-heap\":true},"
+                + "\"retry-budget-ratio\":0.2}";
 
         assertThat(mapper.writeValueAsString(serialized)).isEqualTo(camelCase);
         assertThat(mapper.readValue(camelCase, PartialServiceConfiguration.class))
@@ -74,12 +135,25 @@ public final class PartialServiceConfigurationTest {
         String camelCase = "{\"apiToken\":null,\"security\":null,\"uris\":[],\"connectTimeout\":null,"
                 + "\"readTimeout\":null,\"writeTimeout\":null,\"maxNumRetries\":null,\"backoffSlotSize\":null,"
                 + "\"enableGcmCipherSuites\":null,\"enableHttp2\":null,\"fallbackToCommonNameVerification\":null,"
-                + "\"proxyConfiguration\":null}";
+                + "\"proxyConfiguration\":null,\"maxConnections\":null,\"maxConnectionsPerHost\":null,"
+                + "\"idleConnectionTimeout\":null,\"connectionTimeToLive\":null,\"http2MaxConcurrentStreams\":null,"
+                + "\"http2InitialStreamWindowSize\":null,\"http2InitialConnectionWindowSize\":null,"
+                + "\"http2MaxFrameSize\":null,\"endpoints\":{},\"hedging\":null,"
+                + "\"requestCompression\":null,\"acceptCompression\":[],\"requestCompressionMinSize\":null,"
+                + "\"structuredUris\":[],\"slowStartWindow\":null,\"bulkhead\":null,\"responseCache\":null,"
+                + "\"retryBudgetRatio\":null}";
         String kebabCase = "{\"api-token\":null,\"security\":null,\"connect-timeout\":null,"
                 + "\"read-timeout\":null,\"write-timeout\":null,\"max-num-retries\":null,\"backoff-slot-size\":null,"
                 + "\"enable-gcm-cipher-suites\":null,\"enable-http2\":null,"
                 + "\"fallback-to-common-name-verification\":null,"
-                + "\"uris\":[],\"proxy-configuration\":null}";
+                + "\"uris\":[],\"proxy-configuration\":null,\"max-connections\":null,"
+                + "\"max-connections-per-host\":null,\"idle-connection-timeout\":null,"
+                + "\"connection-time-to-live\":null,\"http2-max-concurrent-streams\":null,"
+                + "\"http2-initial-stream-window-size\":null,\"http2-initial-connection-window-size\":null,"
+                + "\"http2-max-frame-size\":null,\"endpoints\":{},\"hedging\":null,"
+                + "\"request-compression\":null,\"accept-compression\":[],\"request-compression-min-size\":null,"
+                + "\"structured-uris\":[],\"slow-start-window\":null,\"bulkhead\":null,\"response-cache\":null,"
+                + "\"retry-budget-ratio\":null}";
 
         assertThat(ObjectMappers.newClientObjectMapper().writeValueAsString(serialized))
                 .isEqualTo(camelCase);
@@ -0,0 +1,176 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.conjure.java.api.errors.ErrorType;
+import com.palantir.conjure.java.api.errors.RemoteException;
+import com.palantir.conjure.java.api.errors.SerializableError;
+import com.palantir.conjure.java.api.errors.ServiceException;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeNullPointerException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public final class RequestCoalescerTest {
+
+    private final RequestCoalescer coalescer = RequestCoalescer.of(
+            ServicesConfigBlock.builder()
+                    .putServices("foo", PartialServiceConfiguration.builder().build())
+                    .putServices("bar", PartialServiceConfiguration.builder().build())
+                    .build(),
+            2);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void coalescesConcurrentIdenticalCalls() throws Exception {
+        CompletableFuture<String> backend = new CompletableFuture<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(coalescer.execute("foo", "entity-1", () -> call(backend)));
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(coalescer.inFlight("foo")).isEqualTo(1);
+        assertThat(coalescer.coalescedCount()).isEqualTo(199);
+
+        backend.complete("value");
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.get()).isEqualTo("value");
+        }
+        assertThat(coalescer.inFlight("foo")).isZero();
+
+        coalescer.execute("foo", "entity-1", () -> call(CompletableFuture.completedFuture("again")));
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    public void sharesFailures() {
+        CompletableFuture<String> backend = new CompletableFuture<>();
+        CompletableFuture<String> first = coalescer.execute("foo", "entity-1", () -> call(backend));
+        CompletableFuture<String> second = coalescer.execute("foo", "entity-1", () -> call(backend));
+        RemoteException failure =
+                new RemoteException(SerializableError.forException(new ServiceException(ErrorType.INTERNAL)), 500);
+        backend.completeExceptionally(failure);
+
+        assertThat(first)
+                .failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isSameAs(failure);
+        assertThat(second)
+                .failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isSameAs(failure);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void scopesKeysByService() {
+        CompletableFuture<String> backend = new CompletableFuture<>();
+        coalescer.execute("foo", "entity-1", () -> call(backend));
+        coalescer.execute("bar", "entity-1", () -> call(backend));
+        coalescer.execute("foo", "entity-2", () -> call(backend));
+        assertThat(calls).hasValue(3);
+
+        assertThatLoggableExceptionThrownBy(() -> coalescer.execute("baz", "entity-1", () -> call(backend)))
+                .hasLogMessage("Unknown service")
+                .hasExactlyArgs(SafeArg.of("serviceName", "baz"));
+    }
+
+    @Test
+    public void bypassesCoalescingBeyondMaxKeys() {
+        CompletableFuture<String> backend = new CompletableFuture<>();
+        coalescer.execute("foo", "entity-1", () -> call(backend));
+        coalescer.execute("foo", "entity-2", () -> call(backend));
+        coalescer.execute("foo", "entity-3", () -> call(backend));
+        coalescer.execute("foo", "entity-3", () -> call(backend));
+        assertThat(calls).hasValue(4);
+        assertThat(coalescer.inFlight("foo")).isEqualTo(2);
+
+        backend.complete("value");
+        assertThat(coalescer.inFlight("foo")).isZero();
+    }
+
+    @Test
+    public void cancellingOneCallerDoesNotAffectOthers() throws Exception {
+        CompletableFuture<String> backend = new CompletableFuture<>();
+        CompletableFuture<String> first = coalescer.execute("foo", "entity-1", () -> call(backend));
+        CompletableFuture<String> second = coalescer.execute("foo", "entity-1", () -> call(backend));
+        first.cancel(true);
+
+        backend.complete("value");
+        assertThat(second.get()).isEqualTo("value");
+    }
+
+    @Test
+    public void sharesSynchronousFailures() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        CompletableFuture<String> future = coalescer.execute("foo", "entity-1", () -> {
+            throw failure;
+        });
+        assertThat(future)
+                .failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isSameAs(failure);
+        assertThat(coalescer.inFlight("foo")).isZero();
+    }
+
+    @Test
+    public void failsCallsReturningNullFutures() {
+        CompletableFuture<String> future = coalescer.execute("foo", "entity-1", () -> null);
+        assertThat(future)
+                .failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(SafeNullPointerException.class)
+                .withMessage("Call returned a null future");
+        assertThat(coalescer.inFlight("foo")).isZero();
+        assertThat(coalescer.execute("foo", "entity-1", () -> CompletableFuture.completedFuture("value")))
+                .isCompletedWithValue("value");
+    }
+
+    @Test
+    public void releasesKeyWhenCallThrowsError() {
+        CompletableFuture<String> backend = new CompletableFuture<>();
+        StackOverflowError error = new StackOverflowError();
+        assertThatThrownBy(() -> coalescer.execute("foo", "entity-1", () -> {
+                    throw error;
+                }))
+                .isSameAs(error);
+        assertThat(coalescer.inFlight("foo")).isZero();
+
+        CompletableFuture<String> future = coalescer.execute("foo", "entity-1", () -> call(backend));
+        assertThat(calls).hasValue(1);
+        backend.complete("value");
+        assertThat(future).isCompletedWithValue("value");
+    }
+
+    private CompletableFuture<String> call(CompletableFuture<String> result) {
+        calls.incrementAndGet();
+        return result;
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public final class ResponseCacheTest {
+
+    private static final HumanReadableDuration TTL = HumanReadableDuration.seconds(10);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void servesFreshResponsesForTtl() {
+        ResponseCache cache = cache(ResponseCacheConfiguration.of(TTL));
+        cache.put("getFoo", List.of("a"), body("foo"));
+        assertThat(cache.getIfPresent("getFoo", List.of("a")).map(ResponseCacheTest::string))
+                .hasValue("foo");
+        assertThat(cache.getIfPresent("getFoo", List.of("b"))).isEmpty();
+        assertThat(cache.getIfPresent("getBar", List.of("a"))).isEmpty();
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos() - 1);
+        assertThat(cache.getIfPresent("getFoo", List.of("a"))).isPresent();
+        clock.incrementAndGet();
+        assertThat(cache.getIfPresent("getFoo", List.of("a"))).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+    }
+
+    @Test
+    public void loadsAndCachesMisses() throws Exception {
+        ResponseCache cache = cache(ResponseCacheConfiguration.of(TTL));
+        assertThat(string(cache.get("getFoo", 1, () -> load("foo")).get())).isEqualTo("foo");
+        assertThat(string(cache.get("getFoo", 1, () -> load("bar")).get())).isEqualTo("foo");
+        assertThat(loads).hasValue(1);
+
+        CompletableFuture<ByteBuffer> failed = cache.get("getFoo", 2, () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException());
+        });
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(cache.getIfPresent("getFoo", 2)).isEmpty();
+    }
+
+    @Test
+    public void servesStaleWhileRevalidating() throws Exception {
+        ResponseCache cache = cache(ResponseCacheConfiguration.builder()
+                .ttl(TTL)
+                .staleWhileRevalidate(HumanReadableDuration.seconds(5))
+                .build());
+        cache.put("getFoo", 1, body("v1"));
+        clock.addAndGet(Duration.ofSeconds(12).toNanos());
+        assertThat(cache.getIfPresent("getFoo", 1)).isEmpty();
+
+        CompletableFuture<ByteBuffer> refresh = new CompletableFuture<>();
+        assertThat(string(cache.get("getFoo", 1, () -> {
+                            loads.incrementAndGet();
+                            return refresh;
+                        })
+                        .get()))
+                .isEqualTo("v1");
+        assertThat(string(cache.get("getFoo", 1, () -> load("unused")).get())).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+
+        refresh.complete(body("v2"));
+        assertThat(cache.getIfPresent("getFoo", 1).map(ResponseCacheTest::string))
+                .hasValue("v2");
+
+        clock.addAndGet(Duration.ofSeconds(15).toNanos());
+        assertThat(string(cache.get("getFoo", 1, () -> load("v3")).get())).isEqualTo("v3");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void keepsFrequentlyUsedResponsesDuringScans() {
+        ResponseCache cache = cache(
+                ResponseCacheConfiguration.builder().ttl(TTL).maxEntries(100).build());
+        for (int i = 0; i < 10; i++) {
+            cache.put("getReference", i, body("reference-" + i));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                assertThat(cache.getIfPresent("getReference", i)).isPresent();
+            }
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("getOneOff", i, body("one-off"));
+            if (i % 100 == 0) {
+                for (int reference = 0; reference < 10; reference++) {
+                    assertThat(cache.getIfPresent("getReference", reference)).isPresent();
+                }
+            }
+        }
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getIfPresent("getOneOff", 0)).isEmpty();
+    }
+
+    @Test
+    public void boundsTotalBytes() {
+        ResponseCache cache = cache(
+                ResponseCacheConfiguration.builder().ttl(TTL).maxBytes(10L).build());
+        cache.put("getFoo", 1, body("1111"));
+        cache.put("getFoo", 2, body("2222"));
+        cache.put("getFoo", 3, body("3333"));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.bytes()).isEqualTo(8);
+        assertThat(cache.getIfPresent("getFoo", 1)).isEmpty();
+
+        cache.put("getFoo", 4, body("far too large"));
+        assertThat(cache.getIfPresent("getFoo", 4)).isEmpty();
+        assertThat(cache.bytes()).isEqualTo(8);
+    }
+
+    @Test
+    public void storesCopiesOffHeap() {
+        ResponseCache cache = cache(
+                ResponseCacheConfiguration.builder().ttl(TTL).offHeap(true).build());
+        ByteBuffer body = body("foo");
+        cache.put("getFoo", 1, body);
+        body.put(0, (byte) 'b');
+        assertThat(body.position()).isZero();
+
+        ByteBuffer cached = cache.getIfPresent("getFoo", 1).orElseThrow();
+        assertThat(cached.isDirect()).isTrue();
+        assertThat(cached.isReadOnly()).isTrue();
+        assertThat(string(cached)).isEqualTo("foo");
+        assertThat(cache.getIfPresent("getFoo", 1).map(ResponseCacheTest::string))
+                .hasValue("foo");
+    }
+
+    @Test
+    public void invalidates() {
+        ResponseCache cache = cache(ResponseCacheConfiguration.of(TTL));
+        cache.put("getFoo", 1, body("foo"));
+        cache.put("getFoo", 2, body("bar"));
+        cache.invalidate("getFoo", 1);
+        assertThat(cache.getIfPresent("getFoo", 1)).isEmpty();
+        assertThat(cache.bytes()).isEqualTo(3);
+
+        cache.invalidateAll();
+        assertThat(cache.getIfPresent("getFoo", 2)).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+    }
+
+    @Test
+    public void staysBoundedUnderConcurrentAccess() throws Exception {
+        ResponseCache cache = cache(
+                ResponseCacheConfiguration.builder().ttl(TTL).maxEntries(50).build());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        int key = (i * 31 + seed) % 200;
+                        if (cache.getIfPresent("getFoo", key).isEmpty()) {
+                            cache.put("getFoo", key, body("value"));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.bytes()).isEqualTo(cache.size() * 5L);
+    }
+
+    @Test
+    public void invalidatesAllDuringLookup() {
+        AtomicReference<Runnable> onClockRead = new AtomicReference<>(() -> {});
+        ResponseCache cache = new ResponseCache(
+                ResponseCacheConfiguration.builder().ttl(TTL).maxEntries(10).build(), () -> {
+                    onClockRead.getAndSet(() -> {}).run();
+                    return clock.get();
+                });
+        cache.put("getFoo", 1, body("value"));
+        // the lookup reads the clock after finding the entry but before recording the access
+        onClockRead.set(cache::invalidateAll);
+        assertThat(cache.getIfPresent("getFoo", 1)).isPresent();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+
+        // responses used more often than the invalidated one, so that the policy also evicts it if it was left behind
+        for (int key = 0; key < 100; key++) {
+            for (int i = 0; i < 3; i++) {
+                cache.getIfPresent("getBar", key);
+            }
+            cache.put("getBar", key, body("value"));
+        }
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.bytes()).isEqualTo(50);
+    }
+
+    @Test
+    public void invalidatesAllDuringConcurrentLookups() throws Exception {
+        ResponseCache cache = cache(
+                ResponseCacheConfiguration.builder().ttl(TTL).maxEntries(10).build());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 7; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        int key = (i * 31 + seed) % 20;
+                        if (cache.getIfPresent("getFoo", key).isEmpty()) {
+                            cache.put("getFoo", key, body("value"));
+                        }
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    cache.invalidateAll();
+                }
+            }));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.bytes()).isEqualTo(cache.size() * 5L);
+
+        for (int key = 0; key < 100; key++) {
+            for (int i = 0; i < 3; i++) {
+                cache.getIfPresent("getBar", key);
+            }
+            cache.put("getBar", key, body("value"));
+        }
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.bytes()).isEqualTo(50);
+    }
+
+    @Test
+    public void validatesConfiguration() {
+        assertThatLoggableExceptionThrownBy(() -> ResponseCacheConfiguration.of(HumanReadableDuration.seconds(0)))
+                .hasLogMessage("ttl must be positive");
+        assertThatLoggableExceptionThrownBy(() -> ResponseCacheConfiguration.builder()
+                        .ttl(TTL)
+                        .maxEntries(0)
+                        .build())
+                .hasLogMessage("max-entries must be positive");
+        assertThat(ResponseCacheConfiguration.of(TTL).maxBytes()).isEqualTo(Optional.empty());
+    }
+
+    private ResponseCache cache(ResponseCacheConfiguration config) {
+        return new ResponseCache(config, clock::get);
+    }
+
+    private CompletableFuture<ByteBuffer> load(String value) {
+        loads.incrementAndGet();
+        return CompletableFuture.completedFuture(body(value));
+    }
+
+    private static ByteBuffer body(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
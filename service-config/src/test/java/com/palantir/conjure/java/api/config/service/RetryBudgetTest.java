@@ -0,0 +1,160 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
+import com.palantir.logsafe.SafeArg;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public final class RetryBudgetTest {
+
+    @Test
+    public void refusesRetriesOnceExhausted() {
+        RetryBudget budget = new RetryBudget(0.1);
+        int granted = 0;
+        for (int i = 0; i < 20; i++) {
+            granted += budget.tryRetry() ? 1 : 0;
+        }
+        assertThat(granted).isEqualTo(10);
+        assertThat(budget.retryCount()).isEqualTo(10);
+        assertThat(budget.refusedCount()).isEqualTo(10);
+        assertThat(budget.availableTokens()).isZero();
+    }
+
+    @Test
+    public void successesRefillBudget() {
+        RetryBudget budget = new RetryBudget(0.1);
+        drain(budget);
+        for (int i = 0; i < 9; i++) {
+            budget.recordSuccess();
+        }
+        assertThat(budget.tryRetry()).isFalse();
+        budget.recordSuccess();
+        assertThat(budget.tryRetry()).isTrue();
+        assertThat(budget.tryRetry()).isFalse();
+
+        for (int i = 0; i < 1000; i++) {
+            budget.recordSuccess();
+        }
+        assertThat(budget.availableTokens()).isEqualTo(10);
+    }
+
+    @Test
+    public void neverRefillsWithZeroRatio() {
+        RetryBudget budget = new RetryBudget(0);
+        drain(budget);
+        for (int i = 0; i < 100; i++) {
+            budget.recordSuccess();
+        }
+        assertThat(budget.tryRetry()).isFalse();
+    }
+
+    @Test
+    public void sharesBudgetPerService() {
+        ServiceConfiguration config = config(0.5);
+        RetryBudget budget = RetryBudget.forService("sharesBudgetPerService", config);
+        assertThat(RetryBudget.forService("sharesBudgetPerService", config)).isSameAs(budget);
+        assertThat(RetryBudget.forService("sharesBudgetPerService-other", config))
+                .isNotSameAs(budget);
+
+        drain(budget);
+        budget.recordSuccess();
+        budget.recordSuccess();
+        assertThat(budget.tryRetry()).isTrue();
+
+        RetryBudget.forService("sharesBudgetPerService", config(1));
+        budget.recordSuccess();
+        assertThat(budget.tryRetry()).isTrue();
+    }
+
+    @Test
+    public void grantsAtMostAvailableTokensConcurrently() throws Exception {
+        RetryBudget budget = new RetryBudget(0.1);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        budget.recordSuccess();
+                        if (budget.tryRetry()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // the initial burst plus a tenth of a token per success
+        assertThat(granted.get()).isLessThanOrEqualTo(10 + 800).isEqualTo(budget.retryCount());
+        assertThat(budget.retryCount() + budget.refusedCount()).isEqualTo(8000);
+    }
+
+    @Test
+    public void resolvesRatioFromConfiguration() {
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .defaultSecurity(SslConfiguration.of(Paths.get("trustStore.jks")))
+                .defaultRetryBudgetRatio(0.2)
+                .putServices("service1", PartialServiceConfiguration.builder().build())
+                .putServices(
+                        "service2",
+                        PartialServiceConfiguration.builder()
+                                .retryBudgetRatio(0.5)
+                                .build())
+                .putServices(
+                        "service3",
+                        PartialServiceConfiguration.builder()
+                                .retryBudgetRatio(1.5)
+                                .build())
+                .build();
+        ServiceConfigurationFactory factory = ServiceConfigurationFactory.of(services);
+
+        assertThat(factory.get("service1").retryBudgetRatio()).hasValue(0.2);
+        assertThat(factory.get("service2").retryBudgetRatio()).hasValue(0.5);
+        assertThatLoggableExceptionThrownBy(() -> factory.get("service3"))
+                .hasLogMessage("Retry budget ratio for service must be between 0 and 1")
+                .hasExactlyArgs(SafeArg.of("serviceName", "service3"), SafeArg.of("retryBudgetRatio", 1.5));
+    }
+
+    private static void drain(RetryBudget budget) {
+        while (budget.tryRetry()) {
+            // spend the initial burst
+        }
+    }
+
+    private static ServiceConfiguration config(double ratio) {
+        return ServiceConfiguration.builder()
+                .security(SslConfiguration.of(Paths.get("trustStore.jks")))
+                .retryBudgetRatio(ratio)
+                .build();
+    }
+}
@@ -29,15 +29,30 @@ import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
 import com.palantir.conjure.java.api.ext.jackson.ObjectMappers;
 import com.palantir.conjure.java.api.ext.jackson.ShimJdk7Module;
 import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.SafeLoggable;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import com.palantir.tokens.auth.BearerToken;
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public final class ServiceConfigurationFactoryTests {
 
@@ -61,6 +76,14 @@ public final class ServiceConfigurationFactoryTests {
     private static final boolean enableGcm = false;
     private static final boolean defaultFallbackToCn = true;
     private static final boolean fallbackToCn = false;
+    private static final int maxConnections = 100;
+    private static final int defaultMaxConnections = 200;
+    private static final int maxConnectionsPerHost = 10;
+    private static final int defaultMaxConnectionsPerHost = 20;
+    private static final HumanReadableDuration idleConnectionTimeout = HumanReadableDuration.seconds(30);
+    private static final HumanReadableDuration defaultIdleConnectionTimeout = HumanReadableDuration.seconds(60);
+    private static final HumanReadableDuration connectionTimeToLive = HumanReadableDuration.minutes(5);
+    private static final HumanReadableDuration defaultConnectionTimeToLive = HumanReadableDuration.minutes(10);
 
     private final ObjectMapper mapper = new ObjectMapper(new YAMLFactory())
             .registerModule(new ShimJdk7Module())
@@ -102,6 +125,10 @@ public final class ServiceConfigurationFactoryTests {
                 .defaultBackoffSlotSize(defaultBackoffSlotSize)
                 .defaultEnableGcmCipherSuites(defaultEnableGcm)
                 .defaultFallbackToCommonNameVerification(defaultFallbackToCn)
+                .defaultMaxConnections(defaultMaxConnections)
+                .defaultMaxConnectionsPerHost(defaultMaxConnectionsPerHost)
+                .defaultIdleConnectionTimeout(defaultIdleConnectionTimeout)
+                .defaultConnectionTimeToLive(defaultConnectionTimeToLive)
                 .build();
         ServiceConfiguration service = ServiceConfigurationFactory.of(services).get("service1");
 
@@ -116,6 +143,10 @@ public final class ServiceConfigurationFactoryTests {
                 .enableGcmCipherSuites(defaultEnableGcm)
                 .fallbackToCommonNameVerification(defaultFallbackToCn)
                 .proxy(defaultProxyConfiguration)
+                .maxConnections(defaultMaxConnections)
+                .maxConnectionsPerHost(defaultMaxConnectionsPerHost)
+                .idleConnectionTimeout(Duration.ofSeconds(defaultIdleConnectionTimeout.toSeconds()))
+                .connectionTimeToLive(Duration.ofMinutes(defaultConnectionTimeToLive.toMinutes()))
                 .build();
 
         assertThat(service).isEqualTo(expected);
@@ -135,6 +166,10 @@ public final class ServiceConfigurationFactoryTests {
                 .enableGcmCipherSuites(enableGcm)
                 .fallbackToCommonNameVerification(fallbackToCn)
                 .proxyConfiguration(proxy)
+                .maxConnections(maxConnections)
+                .maxConnectionsPerHost(maxConnectionsPerHost)
+                .idleConnectionTimeout(idleConnectionTimeout)
+                .connectionTimeToLive(connectionTimeToLive)
                 .build();
         ServicesConfigBlock services = ServicesConfigBlock.builder()
                 .putAllServices(ImmutableMap.of("service1", partial))
@@ -147,6 +182,10 @@ public final class ServiceConfigurationFactoryTests {
                 .defaultBackoffSlotSize(defaultBackoffSlotSize)
                 .defaultEnableGcmCipherSuites(defaultEnableGcm)
                 .defaultFallbackToCommonNameVerification(defaultFallbackToCn)
+                .defaultMaxConnections(defaultMaxConnections)
+                .defaultMaxConnectionsPerHost(defaultMaxConnectionsPerHost)
+                .defaultIdleConnectionTimeout(defaultIdleConnectionTimeout)
+                .defaultConnectionTimeToLive(defaultConnectionTimeToLive)
                 .build();
         ServiceConfiguration service = ServiceConfigurationFactory.of(services).get("service1");
 
@@ -162,6 +201,10 @@ public final class ServiceConfigurationFactoryTests {
                 .enableGcmCipherSuites(enableGcm)
                 .fallbackToCommonNameVerification(fallbackToCn)
                 .proxy(proxy)
+                .maxConnections(maxConnections)
+                .maxConnectionsPerHost(maxConnectionsPerHost)
+                .idleConnectionTimeout(Duration.ofSeconds(idleConnectionTimeout.toSeconds()))
+                .connectionTimeToLive(Duration.ofMinutes(connectionTimeToLive.toMinutes()))
                 .build();
 
         assertThat(service).isEqualTo(expected);
@@ -179,6 +222,402 @@ public final class ServiceConfigurationFactoryTests {
                 .hasExactlyArgs(SafeArg.of("serviceName", "service1"));
     }
 
+    @Test
+    public void testValidateAllReportsEveryInvalidService(@TempDir Path tempDir) throws IOException {
+        Path trustStore = Files.createFile(tempDir.resolve("trustStore.jks"));
+        SslConfiguration readable = SslConfiguration.of(trustStore);
+        SslConfiguration missing =
+                SslConfiguration.of(tempDir.resolve("missing.jks"), tempDir.resolve("missing-key.jks"), "password");
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .putServices("service1", PartialServiceConfiguration.of(uris, Optional.of(readable)))
+                .putServices("service2", PartialServiceConfiguration.of(uris, Optional.empty()))
+                .putServices(
+                        "service3",
+                        PartialServiceConfiguration.of(ImmutableList.of("not a uri"), Optional.of(readable)))
+                .putServices("service4", PartialServiceConfiguration.of(uris, Optional.of(missing)))
+                .build();
+
+        assertThatLoggableExceptionThrownBy(
+                        () -> ServiceConfigurationFactory.of(services).validateAll())
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasLogMessage("Invalid configuration for services")
+                .hasExactlyArgs(SafeArg.of("serviceNames", ImmutableList.of("service2", "service3", "service4")))
+                .satisfies(e -> assertThat(e.getSuppressed())
+                        .extracting(suppressed -> ((SafeLoggable) suppressed).getLogMessage())
+                        .containsExactly(
+                                "Must provide default security or service-specific security block for service",
+                                "Invalid URI for service",
+                                "Store files for service do not exist or are not readable"));
+    }
+
+    @Test
+    public void testValidateAllResolvesAllServices(@TempDir Path tempDir) throws IOException {
+        Path trustStore = Files.createFile(tempDir.resolve("trustStore.jks"));
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .defaultSecurity(SslConfiguration.of(trustStore))
+                .putServices("service1", PartialServiceConfiguration.of(uris, Optional.empty()))
+                .putServices("service2", PartialServiceConfiguration.of(ImmutableList.of(), Optional.empty()))
+                .build();
+        ServiceConfigurationFactory factory = ServiceConfigurationFactory.of(services);
+
+        assertThat(factory.validateAll()).isEqualTo(factory.getAll());
+    }
+
+    @Test
+    public void testStampsGenerationAndContentHash() {
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .defaultSecurity(defaultSecurity)
+                .putServices("service1", PartialServiceConfiguration.of(uris, Optional.empty()))
+                .putServices("service2", PartialServiceConfiguration.of(uris, Optional.of(security)))
+                .build();
+        ServiceConfigurationFactory factory = ServiceConfigurationFactory.of(services);
+        ServiceConfiguration first = factory.get("service1");
+        ServiceConfiguration second = factory.get("service1");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.generation()).isGreaterThan(first.generation());
+        assertThat(second.contentHash()).isEqualTo(first.contentHash());
+        assertThat(factory.get("service2").contentHash()).isNotEqualTo(first.contentHash());
+        assertThat(ServiceConfiguration.builder()
+                        .from(first)
+                        .readTimeout(Duration.ofSeconds(1))
+                        .build()
+                        .contentHash())
+                .isNotEqualTo(first.contentHash());
+    }
+
+    @Test
+    public void testContentHashDistinguishesColliding32BitHashes() {
+        ServiceConfiguration first = ServiceConfiguration.builder()
+                .security(security)
+                .localZone("Aa")
+                .build();
+        ServiceConfiguration second =
+                ServiceConfiguration.builder().from(first).localZone("BB").build();
+
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(second.contentHash()).isNotEqualTo(first.contentHash());
+    }
+
+    @Test
+    public void testContentHashCoversRedactedSecrets() {
+        ServiceConfiguration first = ServiceConfiguration.builder()
+                .security(security)
+                .apiToken(BearerToken.valueOf("first"))
+                .proxy(ProxyConfiguration.of("localhost:1234", BasicCredentials.of("user", "first")))
+                .build();
+
+        assertThat(ServiceConfiguration.builder()
+                        .from(first)
+                        .apiToken(BearerToken.valueOf("second"))
+                        .build()
+                        .contentHash())
+                .isNotEqualTo(first.contentHash());
+        assertThat(ServiceConfiguration.builder()
+                        .from(first)
+                        .proxy(ProxyConfiguration.of("localhost:1234", BasicCredentials.of("user", "second")))
+                        .build()
+                        .contentHash())
+                .isNotEqualTo(first.contentHash());
+    }
+
+    @Test
+    public void testContentHashIgnoresEndpointOrder() {
+        EndpointConfiguration endpoint = EndpointConfiguration.builder()
+                .readTimeout(Duration.ofSeconds(1))
+                .build();
+        ServiceConfiguration first = ServiceConfiguration.builder()
+                .security(security)
+                .putEndpoints("a", endpoint)
+                .putEndpoints("b", endpoint)
+                .build();
+        ServiceConfiguration second = ServiceConfiguration.builder()
+                .security(security)
+                .putEndpoints("b", endpoint)
+                .putEndpoints("a", endpoint)
+                .build();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.contentHash()).isEqualTo(first.contentHash());
+    }
+
+    @Test
+    public void testContentHashCoversAllAttributes() {
+        Set<String> attributes = Arrays.stream(ServiceConfiguration.class.getMethods())
+                .filter(method -> !method.isDefault()
+                        && !Modifier.isStatic(method.getModifiers())
+                        && method.getParameterCount() == 0)
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+        Set<String> hashed = new HashSet<>();
+        ServiceConfiguration recording = (ServiceConfiguration) Proxy.newProxyInstance(
+                ServiceConfiguration.class.getClassLoader(),
+                new Class<?>[] {ServiceConfiguration.class},
+                (instance, method, args) -> {
+                    if (method.isDefault()) {
+                        return InvocationHandler.invokeDefault(instance, method, args);
+                    }
+                    hashed.add(method.getName());
+                    return emptyValue(method.getReturnType());
+                });
+
+        recording.contentHash();
+        assertThat(attributes).contains("uris", "security", "retryBudgetRatio");
+        assertThat(hashed)
+                .describedAs("All attributes of ServiceConfiguration must be included in its content hash")
+                .isEqualTo(attributes);
+    }
+
+    private static Object emptyValue(Class<?> type) {
+        if (type == Optional.class) {
+            return Optional.empty();
+        } else if (type == List.class) {
+            return List.of();
+        } else if (type == Map.class) {
+            return Map.of();
+        }
+        return null;
+    }
+
+    @Test
+    public void testParsesUris() throws IOException {
+        ServiceConfiguration service1 = ServiceConfigurationFactory.of(
+                        deserialize("configs/discovery-config-with-fallback.yml"))
+                .get("service1");
+
+        assertThat(service1.parsedUris()).hasSize(2).allSatisfy(uri -> {
+            assertThat(uri.scheme()).isEqualTo("https");
+            assertThat(uri.port()).isEqualTo(8443);
+        });
+        assertThat(service1.parsedUris().get(0).resolve("/foo"))
+                .isEqualTo("https://some.internal.url1:8443/firstservice/api/foo");
+    }
+
+    @Test
+    public void testIllegalArgumentExceptionForInvalidUri() {
+        PartialServiceConfiguration partial =
+                PartialServiceConfiguration.of(ImmutableList.of("https://foo", "not a uri"), Optional.of(security));
+        ServicesConfigBlock services =
+                ServicesConfigBlock.builder().putServices("service1", partial).build();
+        assertThatLoggableExceptionThrownBy(
+                        () -> ServiceConfigurationFactory.of(services).get("service1"))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasLogMessage("Invalid URI for service")
+                .hasExactlyArgs(SafeArg.of("serviceName", "service1"));
+    }
+
+    @Test
+    public void testIllegalArgumentExceptionForAbsoluteUriWithoutHost() {
+        PartialServiceConfiguration partial =
+                PartialServiceConfiguration.of(ImmutableList.of("uri", "https:/foo"), Optional.of(security));
+        ServicesConfigBlock services =
+                ServicesConfigBlock.builder().putServices("service1", partial).build();
+        assertThatLoggableExceptionThrownBy(
+                        () -> ServiceConfigurationFactory.of(services).get("service1"))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasLogMessage("Invalid URI for service")
+                .hasExactlyArgs(SafeArg.of("serviceName", "service1"));
+    }
+
+    @Test
+    public void testAcceptsSchemeLessUris() {
+        PartialServiceConfiguration partial = PartialServiceConfiguration.of(uris, Optional.of(security));
+        ServicesConfigBlock services =
+                ServicesConfigBlock.builder().putServices("service1", partial).build();
+        ServiceConfiguration service = ServiceConfigurationFactory.of(services).get("service1");
+        assertThat(service.uris()).isEqualTo(uris);
+        assertThat(service.parsedUris()).singleElement().satisfies(uri -> {
+            assertThat(uri.scheme()).isEmpty();
+            assertThat(uri.host()).isEqualTo("uri");
+        });
+    }
+
+    @Test
+    public void testIllegalArgumentExceptionForSchemeLessUriWithoutHost() {
+        PartialServiceConfiguration partial =
+                PartialServiceConfiguration.of(ImmutableList.of("/foo"), Optional.of(security));
+        ServicesConfigBlock services =
+                ServicesConfigBlock.builder().putServices("service1", partial).build();
+        assertThatLoggableExceptionThrownBy(
+                        () -> ServiceConfigurationFactory.of(services).get("service1"))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasLogMessage("Invalid URI for service")
+                .hasExactlyArgs(SafeArg.of("serviceName", "service1"));
+    }
+
+    @Test
+    public void testResolvesHttp2Settings() {
+        PartialServiceConfiguration partial = PartialServiceConfiguration.builder()
+                .from(PartialServiceConfiguration.of(uris, Optional.of(security)))
+                .http2MaxConcurrentStreams(50)
+                .http2MaxFrameSize(1 << 20)
+                .build();
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .putServices("service1", partial)
+                .defaultHttp2MaxConcurrentStreams(100)
+                .defaultHttp2InitialConnectionWindowSize(1 << 24)
+                .build();
+        ServiceConfiguration service = ServiceConfigurationFactory.of(services).get("service1");
+
+        assertThat(service.http2MaxConcurrentStreams()).hasValue(50);
+        assertThat(service.http2InitialStreamWindowSize()).isEmpty();
+        assertThat(service.http2InitialConnectionWindowSize()).hasValue(1 << 24);
+        assertThat(service.http2MaxFrameSize()).hasValue(1 << 20);
+    }
+
+    @Test
+    public void testIllegalArgumentExceptionForOutOfRangeHttp2Settings() {
+        assertThatLoggableExceptionThrownBy(() -> resolveHttp2(builder -> builder.http2MaxConcurrentStreams(0)))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasLogMessage("HTTP/2 setting for service is out of range")
+                .hasExactlyArgs(
+                        SafeArg.of("serviceName", "service1"),
+                        SafeArg.of("setting", "http2MaxConcurrentStreams"),
+                        SafeArg.of("value", 0),
+                        SafeArg.of("min", 1),
+                        SafeArg.of("max", Integer.MAX_VALUE));
+        assertThatLoggableExceptionThrownBy(() -> resolveHttp2(builder -> builder.http2InitialStreamWindowSize(-1)))
+                .hasLogMessage("HTTP/2 setting for service is out of range");
+        assertThatLoggableExceptionThrownBy(
+                        () -> resolveHttp2(builder -> builder.http2InitialConnectionWindowSize(65_534)))
+                .hasLogMessage("HTTP/2 setting for service is out of range");
+        assertThatLoggableExceptionThrownBy(() -> resolveHttp2(builder -> builder.http2MaxFrameSize(16_383)))
+                .hasLogMessage("HTTP/2 setting for service is out of range");
+        assertThatLoggableExceptionThrownBy(() -> resolveHttp2(builder -> builder.http2MaxFrameSize(1 << 24)))
+                .hasLogMessage("HTTP/2 setting for service is out of range");
+
+        assertThat(resolveHttp2(builder -> builder.http2InitialStreamWindowSize(0)
+                                .http2InitialConnectionWindowSize(65_535)
+                                .http2MaxFrameSize((1 << 24) - 1))
+                        .http2MaxFrameSize())
+                .hasValue((1 << 24) - 1);
+    }
+
+    private static ServiceConfiguration resolveHttp2(Consumer<PartialServiceConfiguration.Builder> settings) {
+        PartialServiceConfiguration.Builder builder = PartialServiceConfiguration.builder();
+        builder.from(PartialServiceConfiguration.of(uris, Optional.of(security)));
+        settings.accept(builder);
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .putServices("service1", builder.build())
+                .build();
+        return ServiceConfigurationFactory.of(services).get("service1");
+    }
+
+    @Test
+    public void testResolvesEndpointOverrides() {
+        PartialServiceConfiguration partial = PartialServiceConfiguration.builder()
+                .from(PartialServiceConfiguration.of(uris, Optional.of(security)))
+                .readTimeout(readTimeout)
+                .maxNumRetries(maxNumRetries)
+                .putEndpoints(
+                        "batch",
+                        PartialEndpointConfiguration.builder()
+                                .readTimeout(HumanReadableDuration.minutes(10))
+                                .maxNumRetries(0)
+                                .build())
+                .putEndpoints(
+                        "ping",
+                        PartialEndpointConfiguration.builder()
+                                .backoffSlotSize(HumanReadableDuration.milliseconds(5))
+                                .build())
+                .build();
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .putServices("service1", partial)
+                .defaultWriteTimeout(defaultWriteTimeout)
+                .defaultBackoffSlotSize(defaultBackoffSlotSize)
+                .build();
+        ServiceConfiguration service = ServiceConfigurationFactory.of(services).get("service1");
+
+        assertThat(service.endpoint("batch"))
+                .isEqualTo(EndpointConfiguration.builder()
+                        .readTimeout(Duration.ofMinutes(10))
+                        .writeTimeout(Duration.ofDays(2))
+                        .maxNumRetries(0)
+                        .backoffSlotSize(Duration.ofDays(20))
+                        .build());
+        assertThat(service.endpoint("ping"))
+                .isEqualTo(EndpointConfiguration.builder()
+                        .readTimeout(Duration.ofMinutes(1))
+                        .writeTimeout(Duration.ofDays(2))
+                        .maxNumRetries(maxNumRetries)
+                        .backoffSlotSize(Duration.ofMillis(5))
+                        .build());
+        assertThat(service.endpoint("other"))
+                .isEqualTo(EndpointConfiguration.builder()
+                        .readTimeout(Duration.ofMinutes(1))
+                        .writeTimeout(Duration.ofDays(2))
+                        .maxNumRetries(maxNumRetries)
+                        .backoffSlotSize(Duration.ofDays(20))
+                        .build())
+                .isSameAs(service.endpoint("another"));
+    }
+
+    @Test
+    public void testPropagatesCompressionDefaults() {
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .putServices("service1", PartialServiceConfiguration.of(uris, Optional.of(security)))
+                .putServices(
+                        "service2",
+                        PartialServiceConfiguration.builder()
+                                .from(PartialServiceConfiguration.of(uris, Optional.of(security)))
+                                .requestCompression(CompressionAlgorithm.DEFLATE)
+                                .addAcceptCompression(CompressionAlgorithm.DEFLATE)
+                                .requestCompressionMinSize(0)
+                                .build())
+                .defaultRequestCompression(CompressionAlgorithm.GZIP)
+                .addDefaultAcceptCompression(CompressionAlgorithm.GZIP, CompressionAlgorithm.DEFLATE)
+                .defaultRequestCompressionMinSize(1024)
+                .build();
+        ServiceConfiguration service1 = ServiceConfigurationFactory.of(services).get("service1");
+        ServiceConfiguration service2 = ServiceConfigurationFactory.of(services).get("service2");
+
+        assertThat(service1.requestCompression()).contains(CompressionAlgorithm.GZIP);
+        assertThat(service1.acceptCompression())
+                .containsExactly(CompressionAlgorithm.GZIP, CompressionAlgorithm.DEFLATE);
+        assertThat(service1.requestCompressionMinSize()).contains(1024);
+        assertThat(service2.requestCompression()).contains(CompressionAlgorithm.DEFLATE);
+        assertThat(service2.acceptCompression()).containsExactly(CompressionAlgorithm.DEFLATE);
+        assertThat(service2.requestCompressionMinSize()).contains(0);
+    }
+
+    @Test
+    public void testResolvesStructuredUris() {
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .defaultSecurity(security)
+                .putServices(
+                        "service",
+                        PartialServiceConfiguration.builder()
+                                .addUris("https://plain")
+                                .addStructuredUris(
+                                        UriConfiguration.of("https://local", "zone-a"),
+                                        UriConfiguration.builder()
+                                                .uri("https://remote")
+                                                .zone("zone-b")
+                                                .weight(3)
+                                                .build())
+                                .build())
+                .putServices(
+                        "structuredOnly",
+                        PartialServiceConfiguration.builder()
+                                .addStructuredUris(UriConfiguration.of("https://local", "zone-a"))
+                                .build())
+                .localZone("zone-a")
+                .build();
+        ServiceConfigurationFactory factory = ServiceConfigurationFactory.of(services);
+        ServiceConfiguration service = factory.get("service");
+
+        assertThat(factory.isEnabled("structuredOnly")).isTrue();
+        assertThat(service.uris()).containsExactly("https://plain", "https://local", "https://remote");
+        assertThat(service.localZone()).contains("zone-a");
+        WeightedNodeTable table = service.nodeTable();
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(ImmutableList.of(table.isLocal(0), table.isLocal(1), table.isLocal(2)))
+                .containsExactly(false, true, false);
+        assertThat(ImmutableList.of(table.weight(0), table.weight(1), table.weight(2)))
+                .containsExactly(1.0, 1.0, 3.0);
+        assertThat(table.sample()).isEqualTo(1);
+    }
+
     @Test
     public void serDe() throws Exception {
         ServicesConfigBlock deserialized = ServicesConfigBlock.builder()
@@ -197,10 +636,23 @@ public final class ServiceConfigurationFactoryTests {
                 + "{\"service\":{\"apiToken\":null,\"security\":null,\"uris\":[\"uri\"],\"connectTimeout\":null,"
                 + "\"readTimeout\":null,\"writeTimeout\":null,\"maxNumRetries\":null,\"backoffSlotSize\":null,"
                 + "\"enableGcmCipherSuites\":null,\"enableHttp2\":null,\"fallbackToCommonNameVerification\":null,"
-                + "\"proxyConfiguration\":null}},\"proxyConfiguration\":"
+                + "\"proxyConfiguration\":null,\"maxConnections\":null,\"maxConnectionsPerHost\":null,"
+                + "\"idleConnectionTimeout\":null,\"connectionTimeToLive\":null,\"http2MaxConcurrentStreams\":null,"
+                + "\"http2InitialStreamWindowSize\":null,\"http2InitialConnectionWindowSize\":null,"
+                + "\"http2MaxFrameSize\":null,\"endpoints\":{},\"hedging\":null,"
+                + "\"requestCompression\":null,\"acceptCompression\":[],\"requestCompressionMinSize\":null,"
+                + "\"structuredUris\":[],\"slowStartWindow\":null,\"bulkhead\":null,\"responseCache\":null,"
+                + "\"retryBudgetRatio\":null}},"
+                + "\"proxyConfiguration\":"
                 + "{\"hostAndPort\":\"host:80\",\"credentials\":null,\"type\":\"HTTP\"},\"connectTimeout\":\"1 day\","
                 + "\"readTimeout\":\"1 day\",\"writeTimeout\":\"1 day\",\"backoffSlotSize\":\"1 day\","
-                + "\"enableGcmCipherSuites\":null,\"enableHttp2\":null,\"fallbackToCommonNameVerification\":null}";
+                + "\"enableGcmCipherSuites\":null,\"enableHttp2\":null,\"fallbackToCommonNameVerification\":null,"
+                + "\"maxConnections\":null,\"maxConnectionsPerHost\":null,\"idleConnectionTimeout\":null,"
+                + "\"connectionTimeToLive\":null,\"http2MaxConcurrentStreams\":null,"
+                + "\"http2InitialStreamWindowSize\":null,\"http2InitialConnectionWindowSize\":null,"
+                + "\"http2MaxFrameSize\":null,\"requestCompression\":null,\"acceptCompression\":[],"
+                + "\"requestCompressionMinSize\":null,\"localZone\":null,"
+                + "\"slowStartWindow\":null,\"retryBudgetRatio\":null}";
         String kebabCase = "{\"api-token\":\"bearerToken\",\"security\":"
                 + "{\"trust-store-path\":\"truststore.jks\",\"trust-store-type\":\"JKS\",\"key-store-path\":null,"
                 + "\"key-store-password\":null,\"key-store-type\":\"JKS\",\"key-store-key-alias\":null},\"services\":"
@@ -226,7 +678,12 @@ public final class ServiceConfigurationFactoryTests {
         String serializedCamelCase = "{\"apiToken\":null,\"security\":null,\"services\":{},"
                 + "\"proxyConfiguration\":null,\"connectTimeout\":null,\"readTimeout\":null,\"writeTimeout\":null,"
                 + "\"backoffSlotSize\":null,\"enableGcmCipherSuites\":null,\"enableHttp2\":null,"
-                + "\"fallbackToCommonNameVerification\":null}";
+                + "\"fallbackToCommonNameVerification\":null,\"maxConnections\":null,\"maxConnectionsPerHost\":null,"
+                + "\"idleConnectionTimeout\":null,\"connectionTimeToLive\":null,\"http2MaxConcurrentStreams\":null,"
+                + "\"http2InitialStreamWindowSize\":null,\"http2InitialConnectionWindowSize\":null,"
+                + "\"http2MaxFrameSize\":null,\"requestCompression\":null,\"acceptCompression\":[],"
+                + "\"requestCompressionMinSize\":null,\"localZone\":null,"
+                + "\"slowStartWindow\":null,\"retryBudgetRatio\":null}";
         String serializedKebabCase = "{\"api-token\":null,\"security\":null,\"services\":{},"
                 + "\"proxy-configuration\":null,\"connect-timeout\":null,\"read-timeout\":null,\"write-timeout\":null,"
                 + "\"backoff-slot-size\":null,\"enable-gcm-cipher-suites\":null,\"enable-http2\":null,"
@@ -0,0 +1,139 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public final class ServiceHostResolverTest {
+
+    private static final Duration NEVER = Duration.ofDays(1);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final Map<String, List<InetAddress>> dns = new ConcurrentHashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final ServiceHostResolver.Resolver resolver = host -> {
+        lookups.incrementAndGet();
+        List<InetAddress> addresses = dns.get(host);
+        if (addresses == null) {
+            throw new UnknownHostException(host);
+        }
+        return addresses;
+    };
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resolvesConfiguredHosts() throws Exception {
+        dns.put("foo", List.of(address("10.0.0.1"), address("10.0.0.2")));
+        ServiceConfiguration config = ServiceConfiguration.builder()
+                .security(SslConfiguration.of(Paths.get("trustStore.jks")))
+                .addUris("https://foo:8443/api", "https://foo/other", "http://bar")
+                .build();
+
+        try (ServiceHostResolver hosts = ServiceHostResolver.of(config, resolver, executor, NEVER)) {
+            hosts.refresh();
+            assertThat(hosts.addresses(config.parsedUris().get(0)))
+                    .containsExactly(
+                            new InetSocketAddress(address("10.0.0.1"), 8443),
+                            new InetSocketAddress(address("10.0.0.2"), 8443));
+            assertThat(hosts.addresses(config.parsedUris().get(1)))
+                    .containsExactly(
+                            new InetSocketAddress(address("10.0.0.1"), 443),
+                            new InetSocketAddress(address("10.0.0.2"), 443));
+            assertThat(hosts.addresses(config.parsedUris().get(2))).isEmpty();
+            assertThat(hosts.addresses(ServiceUri.fromString("https://unknown")))
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    public void servesStaleAddressesWhenRefreshFails() throws Exception {
+        ServiceUri uri = ServiceUri.fromString("https://foo");
+        dns.put("foo", List.of(address("10.0.0.1")));
+        try (ServiceHostResolver hosts = ServiceHostResolver.of(List.of(uri), resolver, executor, NEVER)) {
+            hosts.refresh();
+            List<InetSocketAddress> first = hosts.addresses(uri);
+            assertThat(first).containsExactly(new InetSocketAddress(address("10.0.0.1"), 443));
+
+            dns.remove("foo");
+            hosts.refresh();
+            assertThat(hosts.addresses(uri)).isSameAs(first);
+
+            dns.put("foo", List.of(address("10.0.0.3")));
+            hosts.refresh();
+            assertThat(hosts.addresses(uri)).containsExactly(new InetSocketAddress(address("10.0.0.3"), 443));
+        }
+    }
+
+    @Test
+    public void resolvesEachHostOncePerRefresh() throws Exception {
+        dns.put("foo", List.of(address("10.0.0.1")));
+        List<ServiceUri> uris = List.of(ServiceUri.fromString("https://foo/a"), ServiceUri.fromString("https://foo/b"));
+        try (ServiceHostResolver hosts = ServiceHostResolver.of(uris, resolver, executor, NEVER)) {
+            // wait for the initial background resolution, the next one is not due for a day
+            while (lookups.get() == 0) {
+                Thread.sleep(1);
+            }
+            int before = lookups.get();
+            hosts.refresh();
+            assertThat(lookups.get() - before).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void refreshesInBackground() throws Exception {
+        ServiceUri uri = ServiceUri.fromString("https://foo");
+        dns.put("foo", List.of(address("10.0.0.1")));
+        try (ServiceHostResolver hosts =
+                ServiceHostResolver.of(List.of(uri), resolver, executor, Duration.ofMillis(5))) {
+            awaitAddress(hosts, uri, address("10.0.0.1"));
+            dns.put("foo", List.of(address("10.0.0.2")));
+            awaitAddress(hosts, uri, address("10.0.0.2"));
+        }
+    }
+
+    private static void awaitAddress(ServiceHostResolver hosts, ServiceUri uri, InetAddress expected)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!hosts.addresses(uri).equals(List.of(new InetSocketAddress(expected, uri.port())))) {
+            assertThat(System.nanoTime()).as("timed out waiting for resolution").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static InetAddress address(String ip) throws UnknownHostException {
+        return InetAddress.getByName(ip);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+public final class ServiceUriTest {
+
+    @Test
+    public void parsesComponents() {
+        ServiceUri uri = ServiceUri.fromString("https://foo.internal:8443/service/api/");
+        assertThat(uri.scheme()).isEqualTo("https");
+        assertThat(uri.host()).isEqualTo("foo.internal");
+        assertThat(uri.port()).isEqualTo(8443);
+        assertThat(uri.basePath()).isEqualTo("/service/api");
+        assertThat(uri.hostAndPort()).hasToString("foo.internal:8443");
+        assertThat(uri).hasToString("https://foo.internal:8443/service/api/");
+    }
+
+    @Test
+    public void defaultsPortByScheme() {
+        assertThat(ServiceUri.fromString("https://foo").port()).isEqualTo(443);
+        assertThat(ServiceUri.fromString("HTTP://foo").port()).isEqualTo(80);
+        assertThat(ServiceUri.fromString("h2c://foo").port()).isEqualTo(-1);
+    }
+
+    @Test
+    public void parsesIpLiterals() {
+        ServiceUri ipv6 = ServiceUri.fromString("https://[::1]:8443/api");
+        assertThat(ipv6.host()).isEqualTo("::1");
+        assertThat(ipv6.port()).isEqualTo(8443);
+        assertThat(ipv6.resolve("/foo")).isEqualTo("https://[::1]:8443/api/foo");
+
+        ServiceUri ipv4 = ServiceUri.fromString("http://user@10.0.0.1");
+        assertThat(ipv4.host()).isEqualTo("10.0.0.1");
+        assertThat(ipv4.port()).isEqualTo(80);
+        assertThat(ipv4.basePath()).isEmpty();
+    }
+
+    @Test
+    public void resolvesPaths() {
+        ServiceUri uri = ServiceUri.fromString("https://foo:8443/service/api/");
+        assertThat(uri.resolve("/bar/baz")).isEqualTo("https://foo:8443/service/api/bar/baz");
+        assertThat(uri.resolve("bar%20baz")).isEqualTo("https://foo:8443/service/api/bar%20baz");
+        assertThat(uri.resolve("")).isEqualTo("https://foo:8443/service/api");
+        assertThat(ServiceUri.fromString("https://foo").resolve("bar")).isEqualTo("https://foo/bar");
+    }
+
+    @Test
+    public void parsesSchemeLessUris() {
+        ServiceUri uri = ServiceUri.fromString("foo.internal/service/api/");
+        assertThat(uri.scheme()).isEmpty();
+        assertThat(uri.host()).isEqualTo("foo.internal");
+        assertThat(uri.basePath()).isEqualTo("/service/api");
+        assertThat(uri.resolve("/bar")).isEqualTo("foo.internal/service/api/bar");
+
+        ServiceUri bare = ServiceUri.fromString("uri");
+        assertThat(bare.host()).isEqualTo("uri");
+        assertThat(bare.port()).isEqualTo(-1);
+        assertThat(bare.resolve("bar")).isEqualTo("uri/bar");
+    }
+
+    @Test
+    public void rejectsInvalidUris() {
+        assertInvalid("not a uri", "Malformed service URI");
+        assertInvalid("/foo/bar", "Service URI must have a host");
+        assertInvalid("file:///foo", "Service URI must have a host");
+        assertInvalid("https://foo/api?bar=baz", "Service URI must not have a query or fragment");
+        assertInvalid("https://foo/api#bar", "Service URI must not have a query or fragment");
+    }
+
+    @Test
+    public void equalityUsesOriginalString() {
+        assertThat(ServiceUri.fromString("https://foo")).isEqualTo(ServiceUri.fromString("https://foo"));
+        assertThat(ServiceUri.fromString("https://foo")).isNotEqualTo(ServiceUri.fromString("https://foo/"));
+    }
+
+    private static void assertInvalid(String uri, String message) {
+        assertThatLoggableExceptionThrownBy(() -> ServiceUri.fromString(uri))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasLogMessage(message)
+                .hasExactlyArgs(UnsafeArg.of("uri", uri));
+    }
+}
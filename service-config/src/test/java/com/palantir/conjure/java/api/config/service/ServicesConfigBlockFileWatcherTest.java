@@ -0,0 +1,120 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.palantir.conjure.java.api.ext.jackson.ShimJdk7Module;
+import com.palantir.logsafe.exceptions.SafeUncheckedIoException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public final class ServicesConfigBlockFileWatcherTest {
+
+    private static final Duration DEBOUNCE = Duration.ofMillis(20);
+
+    private final ObjectMapper mapper = new ObjectMapper(new YAMLFactory())
+            .registerModule(new ShimJdk7Module())
+            .registerModule(new Jdk8Module());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void publishesNewSnapshotOnChange() throws Exception {
+        Path file = write("services:\n  service1:\n    uris: [\"https://foo\"]\n");
+        try (ServicesConfigBlockFileWatcher watcher = ServicesConfigBlockFileWatcher.create(file, mapper, DEBOUNCE)) {
+            List<ServicesConfigBlock> published = new CopyOnWriteArrayList<>();
+            watcher.subscribe(published::add);
+            assertThat(published).containsExactly(watcher.get());
+            assertThat(watcher.get().services().get("service1").uris()).containsExactly("https://foo");
+
+            write("services:\n  service1:\n    uris: [\"https://bar\"]\n");
+            awaitTrue(() -> published.size() == 2);
+            assertThat(watcher.get()).isSameAs(published.get(1));
+            assertThat(watcher.get().services().get("service1").uris()).containsExactly("https://bar");
+        }
+    }
+
+    @Test
+    public void doesNotRepublishUnchangedContent() throws Exception {
+        String content = "services:\n  service1:\n    uris: [\"https://foo\"]\n";
+        Path file = write(content);
+        try (ServicesConfigBlockFileWatcher watcher = ServicesConfigBlockFileWatcher.create(file, mapper, DEBOUNCE)) {
+            List<ServicesConfigBlock> published = new CopyOnWriteArrayList<>();
+            watcher.subscribe(published::add);
+
+            write(content);
+            // A sentinel file is used to detect that the watcher has processed the events above.
+            write("services:\n  service1:\n    uris: [\"https://sentinel\"]\n");
+            awaitTrue(() -> published.size() >= 2);
+            assertThat(published).hasSize(2);
+            assertThat(published.get(1).services().get("service1").uris()).containsExactly("https://sentinel");
+        }
+    }
+
+    @Test
+    public void retainsPreviousSnapshotOnInvalidContent() throws Exception {
+        Path file = write("services:\n  service1:\n    uris: [\"https://foo\"]\n");
+        try (ServicesConfigBlockFileWatcher watcher = ServicesConfigBlockFileWatcher.create(file, mapper, DEBOUNCE)) {
+            ServicesConfigBlock initial = watcher.get();
+            write("services: [not a map");
+            write("services:\n  service1:\n    uris: [\"https://bar\"]\n");
+            awaitTrue(() -> watcher.get() != initial);
+            assertThat(watcher.get().services().get("service1").uris()).containsExactly("https://bar");
+
+            ServicesConfigBlock second = watcher.get();
+            write("services: [not a map");
+            Thread.sleep(DEBOUNCE.toMillis() * 10);
+            assertThat(watcher.get()).isSameAs(second);
+        }
+    }
+
+    @Test
+    public void failsIfInitialLoadFails() throws Exception {
+        Path file = write("services: [not a map");
+        assertThatThrownBy(() -> ServicesConfigBlockFileWatcher.create(file, mapper, DEBOUNCE))
+                .isInstanceOf(SafeUncheckedIoException.class)
+                .hasMessageContaining("Failed to load services config file");
+        assertThatThrownBy(() -> ServicesConfigBlockFileWatcher.create(tempDir.resolve("missing.yml"), mapper))
+                .isInstanceOf(SafeUncheckedIoException.class);
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.write(tempDir.resolve("services.yml"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out waiting for condition").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
+import com.palantir.conjure.java.api.errors.QosException;
+import com.palantir.logsafe.SafeArg;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public final class SlowStartRampTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(64);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void rampsUpOverWindow() {
+        SlowStartRamp ramp = ramp(List.of("https://a", "https://b"), 1);
+        assertThat(ramp.isWarm(0)).isTrue();
+
+        ramp.start(0);
+        assertThat(ramp.weight(0)).isEqualTo(SlowStartRamp.MIN_WEIGHT);
+        assertThat(ramp.weight(1)).isEqualTo(1);
+
+        clock.addAndGet(WINDOW.toNanos() / 2);
+        assertThat(ramp.weight(0)).isCloseTo(0.55, within(1e-9));
+
+        clock.addAndGet(WINDOW.toNanos() / 2 - 1);
+        assertThat(ramp.weight(0)).isLessThan(1);
+        clock.incrementAndGet();
+        assertThat(ramp.isWarm(0)).isTrue();
+    }
+
+    @Test
+    public void aggressionFrontLoadsTraffic() {
+        SlowStartRamp ramp = ramp(List.of("https://a"), 2);
+        ramp.start(0);
+        clock.addAndGet(WINDOW.toNanos() / 4);
+        // 0.1 + 0.9 * sqrt(0.25)
+        assertThat(ramp.weight(0)).isCloseTo(0.55, within(1e-9));
+    }
+
+    @Test
+    public void disabledWithoutWindow() {
+        SlowStartRamp ramp = SlowStartRamp.of(config(Optional.empty(), "https://a"));
+        ramp.start(0);
+        assertThat(ramp.isWarm(0)).isTrue();
+        assertThat(ramp.admit(0)).isTrue();
+    }
+
+    @Test
+    public void refreshStartsAddedNodes() {
+        ServicesConfigBlock services = ServicesConfigBlock.builder()
+                .defaultSecurity(SslConfiguration.of(Paths.get("trustStore.jks")))
+                .putServices(
+                        "service",
+                        PartialServiceConfiguration.builder()
+                                .addUris("https://a", "https://b")
+                                .build())
+                .defaultSlowStartWindow(HumanReadableDuration.seconds(64))
+                .build();
+        ServiceConfiguration config = ServiceConfigurationFactory.of(services).get("service");
+        assertThat(config.slowStartWindow()).contains(WINDOW);
+
+        SlowStartRamp ramp = new SlowStartRamp(config.uris(), WINDOW, 1, clock::get);
+        ramp.start(1);
+        clock.addAndGet(WINDOW.toNanos() / 2);
+
+        SlowStartRamp refreshed = ramp.refresh(ServiceConfiguration.builder()
+                .from(config)
+                .uris(List.of("https://c", "https://b", "https://a"))
+                .build());
+        assertThat(refreshed.nodes()).isEqualTo(3);
+        assertThat(refreshed.weight(0)).isEqualTo(SlowStartRamp.MIN_WEIGHT);
+        assertThat(refreshed.weight(1)).isCloseTo(0.55, within(1e-9));
+        assertThat(refreshed.isWarm(2)).isTrue();
+    }
+
+    @Test
+    public void selectorAvoidsColdNodes() {
+        ServiceConfiguration config = config(Optional.of(WINDOW), "https://a", "https://b");
+        SlowStartRamp ramp = SlowStartRamp.of(config);
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.ROUND_ROBIN, config, Optional.empty(), ramp);
+        ramp.start(0);
+        int cold = 0;
+        for (int i = 0; i < 10_000; i++) {
+            int node = selector.select();
+            selector.complete(node, true);
+            cold += node == 0 ? 1 : 0;
+        }
+        // a weight of 0.1 against 1 should receive about 9% of the traffic
+        assertThat(cold).isBetween(600, 1200);
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = NodeSelectionStrategy.class,
+            names = {"ROUND_ROBIN", "LEAST_OUTSTANDING_REQUESTS", "POWER_OF_TWO_CHOICES", "WEIGHTED_ZONE_AWARE"})
+    public void selectorSharesTrafficByWeight(NodeSelectionStrategy strategy) {
+        ServiceConfiguration config = config(Optional.of(WINDOW), "https://a", "https://b", "https://c");
+        SlowStartRamp ramp = ramp(config.uris(), 1);
+        NodeSelector selector = NodeSelector.of(strategy, config, Optional.empty(), ramp);
+        ramp.start(0);
+        // a weight of 0.1 against 1 and 1
+        double expected = SlowStartRamp.MIN_WEIGHT / (SlowStartRamp.MIN_WEIGHT + 2);
+        for (int concurrency : new int[] {1, 100}) {
+            Deque<Integer> inFlight = new ArrayDeque<>();
+            int requests = 30_000;
+            int cold = 0;
+            for (int i = 0; i < requests; i++) {
+                if (inFlight.size() == concurrency) {
+                    selector.complete(inFlight.removeFirst(), true);
+                }
+                int node = selector.select();
+                inFlight.addLast(node);
+                cold += node == 0 ? 1 : 0;
+            }
+            inFlight.forEach(node -> selector.complete(node, true));
+            assertThat((double) cold / requests)
+                    .as("share of the cold node with %s requests in flight", concurrency)
+                    .isCloseTo(expected, within(0.01));
+        }
+    }
+
+    @Test
+    public void startsReadmittedNodes() {
+        NodeHealthScoreboard scoreboard = new NodeHealthScoreboard(2, 0.5, 50, Duration.ofSeconds(10), clock::get);
+        SlowStartRamp ramp = ramp(List.of("https://a", "https://b"), 1);
+        NodeSelector.of(
+                NodeSelectionStrategy.ROUND_ROBIN,
+                config(Optional.of(WINDOW), "https://a", "https://b"),
+                Optional.of(scoreboard),
+                ramp);
+        while (!scoreboard.isEjected(0)) {
+            scoreboard.recordFailure(0, QosException.unavailable(), 1);
+        }
+        assertThat(ramp.isWarm(0)).isTrue();
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(scoreboard.isEjected(0)).isFalse();
+        assertThat(ramp.weight(0)).isEqualTo(SlowStartRamp.MIN_WEIGHT);
+        assertThat(ramp.isWarm(1)).isTrue();
+    }
+
+    @Test
+    public void closedSelectorStopsStartingReadmittedNodes() {
+        NodeHealthScoreboard scoreboard = new NodeHealthScoreboard(2, 0.5, 50, Duration.ofSeconds(10), clock::get);
+        ServiceConfiguration config = config(Optional.of(WINDOW), "https://a", "https://b");
+        SlowStartRamp replaced = ramp(List.of("https://a", "https://b"), 1);
+        SlowStartRamp current = ramp(List.of("https://a", "https://b"), 1);
+        NodeSelector.of(NodeSelectionStrategy.ROUND_ROBIN, config, Optional.of(scoreboard), replaced)
+                .close();
+        try (NodeSelector selector =
+                NodeSelector.of(NodeSelectionStrategy.ROUND_ROBIN, config, Optional.of(scoreboard), current)) {
+            while (!scoreboard.isEjected(0)) {
+                scoreboard.recordFailure(0, QosException.unavailable(), 1);
+            }
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+            assertThat(scoreboard.isEjected(0)).isFalse();
+            assertThat(current.weight(0)).isEqualTo(SlowStartRamp.MIN_WEIGHT);
+            assertThat(replaced.isWarm(0)).isTrue();
+            assertThat(selector.inFlight(0)).isZero();
+        }
+    }
+
+    @Test
+    public void pinUntilErrorDoesNotSupportSlowStart() {
+        ServiceConfiguration config = config(Optional.of(WINDOW), "https://a", "https://b");
+        assertThatLoggableExceptionThrownBy(() -> NodeSelector.of(
+                        NodeSelectionStrategy.PIN_UNTIL_ERROR, config, Optional.empty(), SlowStartRamp.of(config)))
+                .hasLogMessage("Slow start is not supported by the node selection strategy")
+                .hasExactlyArgs(SafeArg.of("strategy", NodeSelectionStrategy.PIN_UNTIL_ERROR));
+    }
+
+    private SlowStartRamp ramp(List<String> uris, double aggression) {
+        return new SlowStartRamp(uris, WINDOW, aggression, clock::get);
+    }
+
+    private static ServiceConfiguration config(Optional<Duration> slowStartWindow, String... uris) {
+        return ServiceConfiguration.builder()
+                .security(SslConfiguration.of(Paths.get("trustStore.jks")))
+                .addUris(uris)
+                .slowStartWindow(slowStartWindow)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.logsafe.SafeArg;
+import org.junit.jupiter.api.Test;
+
+public final class UserAgentCacheTest {
+
+    private final UserAgentCache cache = UserAgentCache.of(10);
+
+    @Test
+    public void returnsCachedUserAgents() {
+        UserAgent parsed = cache.parse("service/1.2.3 (nodeId:node) conjure-java-runtime/1.0.0");
+        assertThat(parsed).isEqualTo(UserAgents.parse("service/1.2.3 (nodeId:node) conjure-java-runtime/1.0.0"));
+        assertThat(cache.parse("service/1.2.3 (nodeId:node) conjure-java-runtime/1.0.0"))
+                .isSameAs(parsed);
+        assertThat(cache.tryParse("service/1.2.3 (nodeId:node) conjure-java-runtime/1.0.0"))
+                .isSameAs(parsed);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void keepsStrictAndLenientSemantics() {
+        for (int i = 0; i < 2; i++) {
+            assertThatLoggableExceptionThrownBy(() -> cache.parse("bogus"))
+                    .hasLogMessage("Failed to parse user agent string")
+                    .hasExactlyArgs(SafeArg.of("userAgent", "bogus"));
+            assertThat(UserAgents.format(cache.tryParse("bogus"))).isEqualTo("unknown/0.0.0");
+            assertThat(UserAgents.format(cache.tryParse(null))).isEqualTo("unknown/0.0.0");
+        }
+        assertThat(cache.tryParse("bogus")).isSameAs(cache.tryParse("bogus"));
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void doesNotCacheFailures() {
+        for (int i = 0; i < 2; i++) {
+            assertThatLoggableExceptionThrownBy(() -> cache.tryParse("service/1.2.3 (nodeId:_)"))
+                    .hasLogMessage("Illegal node id format");
+        }
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void boundsSizeWhileRetainingHeadersInUse() {
+        UserAgent parsed = cache.parse("service/1.2.3");
+        for (int i = 0; i < 1000; i++) {
+            cache.parse("hostile/" + i);
+            assertThat(cache.parse("service/1.2.3")).isSameAs(parsed);
+            assertThat(cache.size()).isLessThanOrEqualTo(20);
+        }
+    }
+}
@@ -18,12 +18,18 @@ package com.palantir.conjure.java.api.config.service;
 
 import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.palantir.conjure.java.api.config.service.UserAgent.Agent;
 import com.palantir.logsafe.SafeArg;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
 public class UserAgentTest {
@@ -63,6 +69,25 @@ public class UserAgentTest {
         assertThat(UserAgents.format(derivedAgent)).isEqualTo("service/1.0.0 conjure/2.0.0");
     }
 
+    @Test
+    public void testMemoizesFormattedHeader() {
+        UserAgent userAgent = UserAgent.of(UserAgent.Agent.of("service", "1.0.0"), "myNode")
+                .addAgent(UserAgent.Agent.of("conjure", "2.0.0"));
+        String formatted = userAgent.formatted();
+        assertThat(formatted).isEqualTo("service/1.0.0 (nodeId:myNode) conjure/2.0.0");
+        assertThat(UserAgents.format(userAgent)).isSameAs(formatted);
+        assertThat(userAgent.formattedAscii())
+                .isEqualTo(ByteBuffer.wrap(formatted.getBytes(StandardCharsets.US_ASCII)));
+        assertThat(userAgent.formattedAsciiBuffer()).isSameAs(userAgent.formattedAsciiBuffer());
+        assertThat(userAgent.formattedAscii().isReadOnly()).isTrue();
+        assertThatThrownBy(() -> userAgent.formattedAscii().put(0, (byte) 'x'))
+                .isInstanceOf(ReadOnlyBufferException.class);
+        ByteBuffer consumed = userAgent.formattedAscii();
+        consumed.position(consumed.limit());
+        assertThat(userAgent.formattedAscii().remaining()).isEqualTo(formatted.length());
+        assertThat(userAgent).isEqualTo(UserAgents.parse(formatted));
+    }
+
     @Test
     void testPrimaryWithInformational() {
         UserAgent baseUserAgent = UserAgent.of(Agent.of("service", "1.0.0"));
@@ -196,6 +221,71 @@ public class UserAgentTest {
                 .isEqualTo("serviceA/1.2.3");
     }
 
+    @Test
+    public void parse_handlesCommentEdgeCases() {
+        assertThat(UserAgents.parse("service/1.2.3 (nodeId:a, nodeId:b)").nodeId())
+                .hasValue("a");
+        assertThat(UserAgents.parse("service/1.2.3 (nodeId:a,nodeId:b)").nodeId())
+                .hasValue("b");
+        assertThat(UserAgents.parse("service/1.2.3 (nodeId:a;foo:bar)").nodeId())
+                .hasValue("a");
+        assertThat(UserAgents.parse("service/1.2.3 (nodeId:a::)").nodeId()).hasValue("a");
+        assertThat(UserAgents.parse("service/1.2.3 (nodeId:a:b)").nodeId()).isEmpty();
+        assertThat(UserAgents.parse("service/1.2.3 (nodeId:)").nodeId()).isEmpty();
+        assertThat(UserAgents.parse("service/1.2.3 (nodeId)").nodeId()).hasValue("nodeId");
+        assertThat(UserAgents.parse("service/1.2.3 ()) other/1.0.0").nodeId()).isEmpty();
+        assertThat(UserAgents.format(UserAgents.parse("service/1.2.3 (nodeId:a\n) other/1.0.0")))
+                .isEqualTo("service/1.2.3 other/1.0.0");
+        assertThat(UserAgents.format(UserAgents.parse("1service/1.2.3 a_b/4.5.6")))
+                .isEqualTo("service/1.2.3 b/4.5.6");
+    }
+
+    @Test
+    public void parse_matchesRegexImplementation() {
+        List<String> tokens = ImmutableList.of(
+                "service",
+                "a",
+                "Z9",
+                "-",
+                "1",
+                "1.2.3",
+                "1.2.3-rc1",
+                "abc",
+                "_",
+                "/",
+                "//",
+                " ",
+                "(",
+                ")",
+                " (",
+                ",",
+                ";",
+                ":",
+                "nodeId",
+                "nodeId:",
+                "node.1",
+                ".",
+                "\n",
+                "\r",
+                "\u2028",
+                "|");
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder userAgent = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                userAgent.append(tokens.get(random.nextInt(tokens.size())));
+            }
+            String value = userAgent.toString();
+            assertThat(outcome(() -> UserAgents.parse(value)))
+                    .describedAs("strict parse of '%s'", value)
+                    .isEqualTo(outcome(() -> UserAgents.parseWithRegex(value, false)));
+            assertThat(outcome(() -> UserAgents.tryParse(value)))
+                    .describedAs("lenient parse of '%s'", value)
+                    .isEqualTo(outcome(() -> UserAgents.parseWithRegex(value, true)));
+        }
+    }
+
     @Test
     public void valid_names() {
         assertThat("a").satisfies(UserAgentTest::isValidName);
@@ -218,6 +308,36 @@ public class UserAgentTest {
         assertThat("service_name").satisfies(UserAgentTest::isNotValidName);
     }
 
+    @Test
+    public void valid_node_ids() {
+        assertThat("a").satisfies(UserAgentTest::isValidNodeId);
+        assertThat("1").satisfies(UserAgentTest::isValidNodeId);
+        assertThat("nodeId.").satisfies(UserAgentTest::isValidNodeId);
+        assertThat("node-id").satisfies(UserAgentTest::isValidNodeId);
+        assertThat("192.168.0.1").satisfies(UserAgentTest::isValidNodeId);
+        assertThat("my.server.foo.local").satisfies(UserAgentTest::isValidNodeId);
+    }
+
+    @Test
+    public void invalid_node_ids() {
+        assertThat("").satisfies(UserAgentTest::isNotValidNodeId);
+        assertThat(" ").satisfies(UserAgentTest::isNotValidNodeId);
+        assertThat(".nodeId").satisfies(UserAgentTest::isNotValidNodeId);
+        assertThat("-nodeId").satisfies(UserAgentTest::isNotValidNodeId);
+        assertThat("node$").satisfies(UserAgentTest::isNotValidNodeId);
+        assertThat("node_id").satisfies(UserAgentTest::isNotValidNodeId);
+        assertThat("node id").satisfies(UserAgentTest::isNotValidNodeId);
+        assertThat("node\n").satisfies(UserAgentTest::isNotValidNodeId);
+    }
+
+    private static Object outcome(Supplier<UserAgent> parser) {
+        try {
+            return parser.get();
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
     private static void isValidName(String name) {
         assertThat(UserAgents.isValidName(name)).isTrue();
         assertThat(name)
@@ -231,4 +351,18 @@ public class UserAgentTest {
                 .describedAs("Name should not match regex, inconsistent with isValidName for '%s'", name)
                 .doesNotMatch(UserAgents.NAME_REGEX);
     }
+
+    private static void isValidNodeId(String nodeId) {
+        assertThat(UserAgents.isValidNodeId(nodeId)).isTrue();
+        assertThat(nodeId)
+                .describedAs("Node id should match regex, inconsistent with isValidNodeId for '%s'", nodeId)
+                .matches(UserAgents.NODE_REGEX);
+    }
+
+    private static void isNotValidNodeId(String nodeId) {
+        assertThat(UserAgents.isValidNodeId(nodeId)).isFalse();
+        assertThat(nodeId)
+                .describedAs("Node id should not match regex, inconsistent with isValidNodeId for '%s'", nodeId)
+                .doesNotMatch(UserAgents.NODE_REGEX);
+    }
 }
@@ -30,6 +30,9 @@ class VersionParserTest {
     void validVersions(String input, int result, boolean isValid) {
         assertThat(VersionParser.countNumericDotGroups(input)).isEqualTo(result);
         assertThat(UserAgents.isValidVersion(input)).isEqualTo(isValid);
+        assertThat(VersionParser.isValidVersion(input))
+                .describedAs("Parser should be consistent with regex for '%s'", input)
+                .isEqualTo(UserAgents.versionMatchesRegex(input));
     }
 
     private static Stream<Arguments> versions() {
@@ -48,7 +51,18 @@ class VersionParserTest {
                 Arguments.of("1.2.3-4-gabc", -1, true),
                 Arguments.of("1.2.3.4-rc5-6-gabc", -1, true),
                 Arguments.of("123.456.789-rc0", -1, true),
+                Arguments.of("1.2.3-4-gabcdef0123456789", -1, true),
+                Arguments.of("1-rc1-2-gabc", -1, true),
                 Arguments.of("1.2.3-4", -1, false),
+                Arguments.of("1.2.3-rc", -1, false),
+                Arguments.of("1.2.3-rc4-", -1, false),
+                Arguments.of("1.2.3-4-g", -1, false),
+                Arguments.of("1.2.3-4-gABC", -1, false),
+                Arguments.of("1.2.3-4-gabc-rc5", -1, false),
+                Arguments.of("1.2.", -1, false),
+                Arguments.of(".1.2", -1, false),
+                Arguments.of("1..2", -1, false),
+                Arguments.of("1.2.3\n", -1, false),
                 Arguments.of("0-0-0", -1, false));
     }
 }
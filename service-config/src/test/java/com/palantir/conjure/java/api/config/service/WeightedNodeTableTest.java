@@ -0,0 +1,156 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.api.config.service;
+
+import static com.palantir.logsafe.testing.Assertions.assertThatLoggableExceptionThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.palantir.conjure.java.api.config.ssl.SslConfiguration;
+import com.palantir.logsafe.SafeArg;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public final class WeightedNodeTableTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void samplesInProportionToWeight() {
+        WeightedNodeTable table = table(
+                Optional.empty(),
+                UriConfiguration.builder().uri("https://a").weight(1).build(),
+                UriConfiguration.builder().uri("https://b").weight(2).build(),
+                UriConfiguration.builder().uri("https://c").weight(0).build(),
+                UriConfiguration.builder().uri("https://d").weight(5).build());
+        double[] frequencies = frequencies(table, false);
+        assertThat(frequencies[0]).isCloseTo(0.125, within(0.01));
+        assertThat(frequencies[1]).isCloseTo(0.25, within(0.01));
+        assertThat(frequencies[2]).isZero();
+        assertThat(frequencies[3]).isCloseTo(0.625, within(0.01));
+    }
+
+    @Test
+    public void prefersLocalZone() {
+        WeightedNodeTable table = table(
+                Optional.of("zone-a"),
+                UriConfiguration.of("https://a", "zone-a"),
+                UriConfiguration.of("https://b", "zone-b"),
+                UriConfiguration.builder()
+                        .uri("https://c")
+                        .zone("zone-a")
+                        .weight(3)
+                        .build());
+        assertThat(table.isLocal(0)).isTrue();
+        assertThat(table.isLocal(1)).isFalse();
+
+        double[] preferred = frequencies(table, false);
+        assertThat(preferred[0]).isCloseTo(0.25, within(0.01));
+        assertThat(preferred[1]).isZero();
+        assertThat(preferred[2]).isCloseTo(0.75, within(0.01));
+
+        double[] any = frequencies(table, true);
+        assertThat(any[0]).isCloseTo(0.2, within(0.01));
+        assertThat(any[1]).isCloseTo(0.2, within(0.01));
+        assertThat(any[2]).isCloseTo(0.6, within(0.01));
+    }
+
+    @Test
+    public void fallsBackToOtherZonesWhenLocalZoneIsDrained() {
+        WeightedNodeTable table = table(
+                Optional.of("zone-a"),
+                UriConfiguration.builder()
+                        .uri("https://a")
+                        .zone("zone-a")
+                        .weight(0)
+                        .build(),
+                UriConfiguration.of("https://b", "zone-b"));
+        for (int i = 0; i < 100; i++) {
+            assertThat(table.sample()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void samplesUniformlyWithoutPositiveWeights() {
+        WeightedNodeTable table = table(
+                Optional.empty(),
+                UriConfiguration.builder().uri("https://a").weight(0).build(),
+                UriConfiguration.builder().uri("https://b").weight(0).build());
+        double[] frequencies = frequencies(table, false);
+        assertThat(frequencies[0]).isCloseTo(0.5, within(0.01));
+        assertThat(frequencies[1]).isCloseTo(0.5, within(0.01));
+    }
+
+    @Test
+    public void plainUrisHaveUnitWeight() {
+        WeightedNodeTable table = ServiceConfiguration.builder()
+                .security(SslConfiguration.of(Paths.get("trustStore.jks")))
+                .addUris("https://a", "https://b")
+                .localZone("zone-a")
+                .build()
+                .nodeTable();
+        assertThat(table.size()).isEqualTo(2);
+        assertThat(table.weight(0)).isEqualTo(1);
+        assertThat(table.isLocal(0)).isFalse();
+        assertThat(WeightedNodeTable.uniform(0).size()).isZero();
+    }
+
+    @Test
+    public void rejectsNegativeWeights() {
+        assertThatLoggableExceptionThrownBy(() ->
+                        UriConfiguration.builder().uri("https://a").weight(-1).build())
+                .hasLogMessage("weight must be a non-negative number")
+                .hasExactlyArgs(SafeArg.of("weight", -1.0));
+    }
+
+    @Test
+    public void selectorSamplesNodeTable() {
+        ServiceConfiguration config = config(
+                Optional.of("zone-a"),
+                UriConfiguration.of("https://a", "zone-b"),
+                UriConfiguration.of("https://b", "zone-a"));
+        NodeSelector selector = NodeSelector.of(NodeSelectionStrategy.WEIGHTED_ZONE_AWARE, config);
+        for (int i = 0; i < 100; i++) {
+            int node = selector.select();
+            selector.complete(node, true);
+            assertThat(node).isEqualTo(1);
+        }
+    }
+
+    private static double[] frequencies(WeightedNodeTable table, boolean any) {
+        double[] frequencies = new double[table.size()];
+        for (int i = 0; i < SAMPLES; i++) {
+            frequencies[any ? table.sampleAny() : table.sample()] += 1.0 / SAMPLES;
+        }
+        return frequencies;
+    }
+
+    private static WeightedNodeTable table(Optional<String> localZone, UriConfiguration... uris) {
+        return config(localZone, uris).nodeTable();
+    }
+
+    private static ServiceConfiguration config(Optional<String> localZone, UriConfiguration... uris) {
+        return ServiceConfiguration.builder()
+                .security(SslConfiguration.of(Paths.get("trustStore.jks")))
+                .addUris(List.of(uris).stream().map(UriConfiguration::uri).toArray(String[]::new))
+                .addStructuredUris(uris)
+                .localZone(localZone)
+                .build();
+    }
+}